@@ -0,0 +1,370 @@
+package xyz.tozymc.api.config.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Generates a {@code ConfigurationCodec} for every {@code ConfigurationSerializable} class.
+ *
+ * <p>The codec is generated in the package of the serializable class, named after its binary name
+ * followed by {@code $$ConfigCodec}, and accesses the {@code SerialKey} fields, the empty
+ * constructor and the serialization methods directly. Classes whose members cannot be accessed
+ * from their package, such as private fields, or whose serialization methods do not return a
+ * {@code Map} and the class, are skipped with a note, and keep being serialized by reflection.
+ *
+ * <p>Types are rendered erased and qualified, without their type annotations. The generated
+ * codecs of the test classes are compiled by the {@code test} task, so an invalid codec fails the
+ * build.
+ *
+ * @author TozyMC
+ * @since 1.0
+ */
+@SupportedAnnotationTypes(ConfigurationCodecProcessor.SERIALIZABLE)
+public class ConfigurationCodecProcessor extends AbstractProcessor {
+
+  static final String SERIALIZABLE =
+      "xyz.tozymc.api.config.serialization.ConfigurationSerializable";
+  private static final String SERIAL_KEY = "xyz.tozymc.api.config.serialization.SerialKey";
+  private static final String CODEC = "xyz.tozymc.api.config.serialization.ConfigurationCodec";
+  private static final String SUFFIX = "$$ConfigCodec";
+
+  @Override
+  public SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latestSupported();
+  }
+
+  @Override
+  public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+    for (TypeElement annotation : annotations) {
+      for (TypeElement type : ElementFilter.typesIn(
+          roundEnv.getElementsAnnotatedWith(annotation))) {
+        try {
+          generate(type);
+        } catch (IOException e) {
+          messager().printMessage(Diagnostic.Kind.ERROR,
+              "Cannot generate codec: " + e.getMessage(), type);
+        }
+      }
+    }
+    return false;
+  }
+
+  private void generate(TypeElement type) throws IOException {
+    String unsupported = checkType(type);
+    if (unsupported != null) {
+      skip(type, unsupported);
+      return;
+    }
+
+    AnnotationMirror serializable = findAnnotation(type, SERIALIZABLE);
+    String serializeName = getStringValue(serializable, "serialize");
+    String deserializeName = getStringValue(serializable, "deserialize");
+
+    TypeMirror erasedType = types().erasure(type.asType());
+    TypeMirror mapType = types().erasure(elements().getTypeElement(Map.class.getName()).asType());
+    ExecutableElement serializer = null;
+    if (!serializeName.isEmpty()) {
+      serializer = findMethod(type, serializeName, erasedType);
+      if (serializer == null) {
+        skip(type, "serialization method " + serializeName + " is not accessible");
+        return;
+      }
+      if (!returns(serializer, mapType)) {
+        skip(type, "serialization method " + serializeName + " does not return a Map");
+        return;
+      }
+    }
+    ExecutableElement deserializer = null;
+    if (!deserializeName.isEmpty()) {
+      deserializer = findMethod(type, deserializeName, mapType);
+      if (deserializer == null || !deserializer.getModifiers().contains(Modifier.STATIC)) {
+        skip(type, "deserialization method " + deserializeName + " is not accessible");
+        return;
+      }
+      if (!returns(deserializer, erasedType)) {
+        skip(type, "deserialization method " + deserializeName + " does not return "
+            + type.getSimpleName());
+        return;
+      }
+    } else if (type.getModifiers().contains(Modifier.ABSTRACT)) {
+      skip(type, "it is abstract");
+      return;
+    } else if (!hasEmptyConstructor(type)) {
+      skip(type, "empty constructor is not accessible");
+      return;
+    }
+
+    List<VariableElement> fields = new ArrayList<>();
+    for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+      if (findAnnotation(field, SERIAL_KEY) == null) {
+        continue;
+      }
+      Set<Modifier> modifiers = field.getModifiers();
+      if (modifiers.contains(Modifier.PRIVATE)
+          || (deserializer == null && modifiers.contains(Modifier.FINAL))) {
+        skip(type, "field " + field.getSimpleName() + " is not accessible");
+        return;
+      }
+      fields.add(field);
+    }
+
+    write(type, serializer, deserializer, fields);
+  }
+
+  private void write(TypeElement type, ExecutableElement serializer,
+      ExecutableElement deserializer, List<VariableElement> fields) throws IOException {
+    PackageElement pkg = elements().getPackageOf(type);
+    String binaryName = elements().getBinaryName(type).toString();
+    String codecName = binaryName.substring(binaryName.lastIndexOf('.') + 1) + SUFFIX;
+    String typeName = sourceName(type.asType());
+
+    StringBuilder source = new StringBuilder();
+    if (!pkg.isUnnamed()) {
+      source.append("package ").append(pkg.getQualifiedName()).append(";\n\n");
+    }
+    source.append("// Generated by ").append(getClass().getName()).append(", do not edit\n")
+        .append("@SuppressWarnings({\"unchecked\", \"rawtypes\"})\n")
+        .append("public final class ").append(codecName).append(" implements ").append(CODEC)
+        .append('<').append(typeName).append("> {\n\n");
+
+    source.append("  @Override\n")
+        .append("  public java.util.Map<?, ?> serialize(").append(typeName).append(" object) {\n");
+    if (serializer != null) {
+      source.append("    return ")
+          .append(serializer.getModifiers().contains(Modifier.STATIC) ? typeName : "object")
+          .append('.').append(serializer.getSimpleName()).append("(object);\n");
+    } else {
+      source.append("    java.util.Map<String, Object> map = new java.util.LinkedHashMap<>();\n");
+      for (VariableElement field : fields) {
+        source.append("    map.put(").append(literal(getSerialKey(field))).append(", object.")
+            .append(field.getSimpleName()).append(");\n");
+      }
+      source.append("    return map;\n");
+    }
+    source.append("  }\n\n");
+
+    source.append("  @Override\n")
+        .append("  public ").append(typeName).append(" deserialize(java.util.Map<?, ?> map) {\n");
+    if (deserializer != null) {
+      source.append("    return ").append(typeName).append('.')
+          .append(deserializer.getSimpleName()).append("((java.util.Map) map);\n");
+    } else {
+      source.append("    ").append(typeName).append(" object = new ").append(typeName)
+          .append("();\n")
+          .append("    Object value;\n");
+      for (VariableElement field : fields) {
+        source.append("    value = map.get(").append(literal(getSerialKey(field))).append(");\n");
+        appendAssignment(source, field);
+      }
+      source.append("    return object;\n");
+    }
+    source.append("  }\n}\n");
+
+    JavaFileObject file = processingEnv.getFiler()
+        .createSourceFile(pkg.isUnnamed() ? codecName : pkg.getQualifiedName() + "." + codecName,
+            type);
+    try (Writer writer = file.openWriter()) {
+      writer.write(source.toString());
+    }
+  }
+
+  private void appendAssignment(StringBuilder source, VariableElement field) {
+    TypeMirror fieldType = field.asType();
+    String target = "object." + field.getSimpleName();
+    if (fieldType.getKind().isPrimitive()) {
+      String boxed = types().boxedClass(types().getPrimitiveType(fieldType.getKind()))
+          .getQualifiedName().toString();
+      if (isNumeric(fieldType.getKind())) {
+        source.append("    if (value instanceof Number) {\n")
+            .append("      ").append(target).append(" = ((Number) value).")
+            .append(sourceName(fieldType)).append("Value();\n")
+            .append("    } else ");
+      } else {
+        source.append("    ");
+      }
+      source.append("if (value != null) {\n")
+          .append("      ").append(target).append(" = (").append(boxed).append(") value;\n")
+          .append("    }\n");
+      return;
+    }
+
+    String typeName = sourceName(fieldType);
+    TypeKind unboxed = unboxedKind(fieldType);
+    if (unboxed != null && isNumeric(unboxed)) {
+      source.append("    ").append(target).append(" = value instanceof Number ? ")
+          .append(typeName).append(".valueOf(((Number) value).")
+          .append(unboxed.name().toLowerCase()).append("Value()) : (").append(typeName)
+          .append(") value;\n");
+      return;
+    }
+    source.append("    ").append(target).append(" = (").append(typeName).append(") value;\n");
+  }
+
+  private String checkType(TypeElement type) {
+    if (type.getKind() != ElementKind.CLASS) {
+      return "it is not a class";
+    }
+    for (Element element = type; element instanceof TypeElement;
+        element = element.getEnclosingElement()) {
+      if (element.getModifiers().contains(Modifier.PRIVATE)) {
+        return "it is not accessible from its package";
+      }
+    }
+    if (type.getNestingKind().isNested() && !type.getModifiers().contains(Modifier.STATIC)) {
+      return "it is an inner class";
+    }
+    return null;
+  }
+
+  private boolean hasEmptyConstructor(TypeElement type) {
+    for (ExecutableElement constructor : ElementFilter.constructorsIn(
+        type.getEnclosedElements())) {
+      if (constructor.getParameters().isEmpty()
+          && !constructor.getModifiers().contains(Modifier.PRIVATE)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private ExecutableElement findMethod(TypeElement type, String name, TypeMirror parameter) {
+    for (ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+      if (!method.getSimpleName().contentEquals(name)
+          || method.getModifiers().contains(Modifier.PRIVATE)
+          || method.getParameters().size() != 1) {
+        continue;
+      }
+      TypeMirror actual = types().erasure(method.getParameters().get(0).asType());
+      if (types().isSameType(actual, parameter)) {
+        return method;
+      }
+    }
+    return null;
+  }
+
+  private boolean returns(ExecutableElement method, TypeMirror type) {
+    return types().isAssignable(types().erasure(method.getReturnType()), type);
+  }
+
+  // Erased and qualified, the type annotations of the declaration are not valid in a cast
+  private String sourceName(TypeMirror type) {
+    TypeMirror erased = types().erasure(type);
+    switch (erased.getKind()) {
+      case ARRAY:
+        return sourceName(((ArrayType) erased).getComponentType()) + "[]";
+      case DECLARED:
+        return ((TypeElement) ((DeclaredType) erased).asElement()).getQualifiedName().toString();
+      default:
+        return erased.getKind().name().toLowerCase();
+    }
+  }
+
+  private AnnotationMirror findAnnotation(Element element, String name) {
+    for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+      TypeElement annotation = (TypeElement) mirror.getAnnotationType().asElement();
+      if (annotation.getQualifiedName().contentEquals(name)) {
+        return mirror;
+      }
+    }
+    return null;
+  }
+
+  private String getStringValue(AnnotationMirror mirror, String name) {
+    for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry :
+        mirror.getElementValues().entrySet()) {
+      if (entry.getKey().getSimpleName().contentEquals(name)) {
+        return (String) entry.getValue().getValue();
+      }
+    }
+    return "";
+  }
+
+  private String getSerialKey(VariableElement field) {
+    return getStringValue(findAnnotation(field, SERIAL_KEY), "value");
+  }
+
+  private TypeKind unboxedKind(TypeMirror type) {
+    try {
+      return types().unboxedType(type).getKind();
+    } catch (IllegalArgumentException e) {
+      return null;
+    }
+  }
+
+  private static boolean isNumeric(TypeKind kind) {
+    return kind.isPrimitive() && kind != TypeKind.BOOLEAN && kind != TypeKind.CHAR;
+  }
+
+  private static String literal(String value) {
+    StringBuilder builder = new StringBuilder("\"");
+    for (char c : value.toCharArray()) {
+      switch (c) {
+        case '"':
+        case '\\':
+          builder.append('\\').append(c);
+          break;
+        case '\n':
+          builder.append("\\n");
+          break;
+        case '\r':
+          builder.append("\\r");
+          break;
+        case '\t':
+          builder.append("\\t");
+          break;
+        default:
+          if (c < 0x20) {
+            builder.append(String.format("\\u%04x", (int) c));
+          } else {
+            builder.append(c);
+          }
+      }
+    }
+    return builder.append('"').toString();
+  }
+
+  private void skip(TypeElement type, String reason) {
+    messager().printMessage(Diagnostic.Kind.NOTE,
+        "No codec generated for " + type.getQualifiedName() + ", " + reason
+            + ", it will be serialized by reflection", type);
+  }
+
+  private Messager messager() {
+    return processingEnv.getMessager();
+  }
+
+  private Elements elements() {
+    return processingEnv.getElementUtils();
+  }
+
+  private Types types() {
+    return processingEnv.getTypeUtils();
+  }
+}
@@ -0,0 +1,105 @@
+package xyz.tozymc.api.config.benchmark;
+
+import xyz.tozymc.api.config.file.FileConfiguration;
+import xyz.tozymc.api.config.file.JsonConfiguration;
+import xyz.tozymc.api.config.file.TomlConfiguration;
+import xyz.tozymc.api.config.file.YamlConfiguration;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * File formats measured by the benchmarks, with helpers to create populated configurations.
+ *
+ * @author TozyMC
+ * @since 1.0
+ */
+public enum ConfigFormat {
+  YAML(".yml") {
+    @Override
+    public FileConfiguration open(File file) throws IOException {
+      return new YamlConfiguration(file);
+    }
+  },
+  JSON(".json") {
+    @Override
+    public FileConfiguration open(File file) throws IOException {
+      return new JsonConfiguration(file);
+    }
+  },
+  TOML(".toml") {
+    @Override
+    public FileConfiguration open(File file) throws IOException {
+      return new TomlConfiguration(file);
+    }
+  };
+
+  /**
+   * Number of values stored in each section by {@link #populate(FileConfiguration, int)}.
+   */
+  public static final int SECTION_SIZE = 100;
+
+  private final String extension;
+
+  ConfigFormat(String extension) {
+    this.extension = extension;
+  }
+
+  /**
+   * Opens a configuration of this format, without loading it.
+   *
+   * @param file File of the configuration.
+   * @return Opened configuration.
+   * @throws IOException Thrown when the file cannot be created.
+   */
+  public abstract FileConfiguration open(File file) throws IOException;
+
+  /**
+   * Creates an empty temporary file of this format, deleted on exit.
+   *
+   * @return Created file.
+   * @throws IOException Thrown when the file cannot be created.
+   */
+  public File createTempFile() throws IOException {
+    File file = File.createTempFile("config-benchmark", extension);
+    file.deleteOnExit();
+    return file;
+  }
+
+  /**
+   * Sets the specified number of values into the specified configuration, {@link #SECTION_SIZE}
+   * values per section, alternating between strings, integers, doubles and booleans.
+   *
+   * @param config Configuration to populate.
+   * @param keys   Number of values.
+   */
+  public static void populate(FileConfiguration config, int keys) {
+    for (int i = 0; i < keys; i++) {
+      config.set(path(i), value(i));
+    }
+  }
+
+  /**
+   * Gets the path of the value with the specified index set by {@link #populate(FileConfiguration,
+   * int)}.
+   *
+   * @param index Index of the value.
+   * @return Path of the value.
+   */
+  public static String path(int index) {
+    return "section" + index / SECTION_SIZE + ".key" + index % SECTION_SIZE;
+  }
+
+  private static Object value(int index) {
+    switch (index % 4) {
+      case 0:
+        return "value" + index;
+      case 1:
+        return index;
+      case 2:
+        return index / 3.0;
+      default:
+        return index % 8 == 3;
+    }
+  }
+}
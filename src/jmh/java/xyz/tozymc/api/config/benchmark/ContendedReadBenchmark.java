@@ -0,0 +1,139 @@
+package xyz.tozymc.api.config.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import xyz.tozymc.api.config.file.FileConfiguration;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Measures reads shared by several threads, with and without a concurrent writer, in concurrent
+ * mode and against a configuration guarded by external synchronization.
+ *
+ * @author TozyMC
+ * @since 1.0
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ContendedReadBenchmark {
+
+  private static final String DEEP = "a.b.c.d.e.f.g.h";
+
+  @Param({"CONCURRENT", "SYNCHRONIZED", "READ_WRITE_LOCK"})
+  public Access access;
+
+  private FileConfiguration config;
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+  private int counter;
+
+  @Setup
+  public void setup() throws IOException {
+    config = ConfigFormat.JSON.open(ConfigFormat.JSON.createTempFile());
+    config.getSetting().concurrent(access == Access.CONCURRENT);
+    ConfigFormat.populate(config, 1000);
+    config.set(DEEP, 42);
+  }
+
+  @TearDown
+  public void tearDown() {
+    config.close();
+  }
+
+  @Benchmark
+  @Group("readOnly")
+  @GroupThreads(4)
+  public int readOnly() {
+    return read();
+  }
+
+  @Benchmark
+  @Group("readWrite")
+  @GroupThreads(3)
+  public int readWhileWriting() {
+    return read();
+  }
+
+  @Benchmark
+  @Group("readWrite")
+  @GroupThreads(1)
+  public Optional<?> write() {
+    int value = counter++;
+    switch (access) {
+      case SYNCHRONIZED:
+        synchronized (this) {
+          return config.set("section5.key1", value);
+        }
+      case READ_WRITE_LOCK:
+        Lock writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+          return config.set("section5.key1", value);
+        } finally {
+          writeLock.unlock();
+        }
+      case CONCURRENT:
+      default:
+        return config.set("section5.key1", value);
+    }
+  }
+
+  private int read() {
+    switch (access) {
+      case SYNCHRONIZED:
+        synchronized (this) {
+          return config.getInt(DEEP);
+        }
+      case READ_WRITE_LOCK:
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+          return config.getInt(DEEP);
+        } finally {
+          readLock.unlock();
+        }
+      case CONCURRENT:
+      default:
+        return config.getInt(DEEP);
+    }
+  }
+
+  /**
+   * How the configuration is shared between the threads.
+   */
+  public enum Access {
+    /**
+     * Built-in concurrent mode, without external synchronization. Values are read from the
+     * sections published by the writer without lock.
+     */
+    CONCURRENT,
+    /**
+     * Non-concurrent configuration guarded by a monitor.
+     */
+    SYNCHRONIZED,
+    /**
+     * Non-concurrent configuration guarded by a {@link ReentrantReadWriteLock}.
+     */
+    READ_WRITE_LOCK
+  }
+}
@@ -0,0 +1,74 @@
+package xyz.tozymc.api.config.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import xyz.tozymc.api.config.file.FileConfiguration;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@code load()} and {@code save()} of each format at increasing sizes.
+ *
+ * @author TozyMC
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+public class LoadSaveBenchmark {
+
+  @Param({"YAML", "JSON", "TOML"})
+  public ConfigFormat format;
+
+  @Param({"1000", "100000", "1000000"})
+  public int keys;
+
+  @Param({"false", "true"})
+  public boolean lazySections;
+
+  private FileConfiguration config;
+
+  @Setup
+  public void setup() throws IOException {
+    File file = format.createTempFile();
+    FileConfiguration source = format.open(file);
+    ConfigFormat.populate(source, keys);
+    source.save();
+
+    config = format.open(file);
+    config.getSetting().lazySections(lazySections);
+    config.load();
+  }
+
+  @TearDown
+  public void tearDown() {
+    config.close();
+  }
+
+  @Benchmark
+  public FileConfiguration load() {
+    config.load();
+    return config;
+  }
+
+  @Benchmark
+  public FileConfiguration save() {
+    config.save();
+    return config;
+  }
+}
@@ -0,0 +1,206 @@
+package xyz.tozymc.api.config.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import xyz.tozymc.api.config.ConfigPath;
+import xyz.tozymc.api.config.ConfigSection;
+import xyz.tozymc.api.config.file.FileConfiguration;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures reading values from a populated configuration: shallow and deep paths, string and
+ * compiled paths, and every typed getter.
+ *
+ * @author TozyMC
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReadBenchmark {
+
+  private static final String DEEP = "a.b.c.d.e.f.g.h";
+  private static final ConfigPath DEEP_PATH = ConfigPath.of(DEEP);
+
+  @Param({"false", "true"})
+  public boolean concurrent;
+
+  @Param({"false", "true"})
+  public boolean primitiveValues;
+
+  private FileConfiguration config;
+
+  @Setup
+  public void setup() throws IOException {
+    config = ConfigFormat.JSON.open(ConfigFormat.JSON.createTempFile());
+    config.getSetting().concurrent(concurrent).primitiveValues(primitiveValues);
+    ConfigFormat.populate(config, 1000);
+
+    config.set("int", 42);
+    config.set("long", 42L << 33);
+    config.set("double", 4.2);
+    config.set("boolean", true);
+    config.set("char", 'c');
+    config.set("byte", 4);
+    config.set("string", "value");
+    config.set(DEEP, 42);
+
+    List<Integer> numbers = Arrays.asList(1, 2, 3, 4, 5, 6, 7, 8);
+    config.set("list.string", Arrays.asList("a", "b", "c", "d"));
+    config.set("list.number", numbers);
+    config.set("list.boolean", Arrays.asList(true, false, true, false));
+    config.set("list.char", Arrays.asList('a', 'b', 'c', 'd'));
+  }
+
+  @TearDown
+  public void tearDown() {
+    config.close();
+  }
+
+  @Benchmark
+  public int shallowRead() {
+    return config.getInt("int");
+  }
+
+  @Benchmark
+  public int deepRead() {
+    return config.getInt(DEEP);
+  }
+
+  @Benchmark
+  public int deepReadCompiled() {
+    return config.getInt(DEEP_PATH);
+  }
+
+  @Benchmark
+  public int getInt() {
+    return config.getInt("section5.key1");
+  }
+
+  @Benchmark
+  public long getLong() {
+    return config.getLong("long");
+  }
+
+  @Benchmark
+  public double getDouble() {
+    return config.getDouble("section5.key2");
+  }
+
+  @Benchmark
+  public boolean getBoolean() {
+    return config.getBoolean("section5.key3");
+  }
+
+  @Benchmark
+  public char getChar() {
+    return config.getChar("char");
+  }
+
+  @Benchmark
+  public byte getByte() {
+    return config.getByte("byte");
+  }
+
+  @Benchmark
+  public String getString() {
+    return config.getString("section5.key0");
+  }
+
+  @Benchmark
+  public Object getObject() {
+    return config.getObject("section5.key0");
+  }
+
+  @Benchmark
+  public ConfigSection getSection() {
+    return config.getSection("section5");
+  }
+
+  @Benchmark
+  public boolean contains() {
+    return config.contains("section5.key0");
+  }
+
+  @Benchmark
+  public List<?> getList() {
+    return config.getList("list.number");
+  }
+
+  @Benchmark
+  public List<String> getStringList() {
+    return config.getStringList("list.string");
+  }
+
+  @Benchmark
+  public List<Byte> getByteList() {
+    return config.getByteList("list.number");
+  }
+
+  @Benchmark
+  public List<Integer> getIntegerList() {
+    return config.getIntegerList("list.number");
+  }
+
+  @Benchmark
+  public List<Long> getLongList() {
+    return config.getLongList("list.number");
+  }
+
+  @Benchmark
+  public List<Float> getFloatList() {
+    return config.getFloatList("list.number");
+  }
+
+  @Benchmark
+  public List<Double> getDoubleList() {
+    return config.getDoubleList("list.number");
+  }
+
+  @Benchmark
+  public List<Boolean> getBooleanList() {
+    return config.getBooleanList("list.boolean");
+  }
+
+  @Benchmark
+  public List<Character> getCharacterList() {
+    return config.getCharacterList("list.char");
+  }
+
+  @Benchmark
+  public int[] getIntArray() {
+    return config.getIntArray("list.number");
+  }
+
+  @Benchmark
+  public long[] getLongArray() {
+    return config.getLongArray("list.number");
+  }
+
+  @Benchmark
+  public double[] getDoubleArray() {
+    return config.getDoubleArray("list.number");
+  }
+
+  @Benchmark
+  public boolean[] getBooleanArray() {
+    return config.getBooleanArray("list.boolean");
+  }
+}
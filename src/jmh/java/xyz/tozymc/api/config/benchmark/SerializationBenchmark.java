@@ -0,0 +1,165 @@
+package xyz.tozymc.api.config.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import xyz.tozymc.api.config.file.FileConfiguration;
+import xyz.tozymc.api.config.serialization.ConfigurationSerializable;
+import xyz.tozymc.api.config.serialization.SerialKey;
+import xyz.tozymc.api.config.serialization.handler.ConfigurationSerializers;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures serializer round trips, by fields and by methods, directly and through a configuration.
+ *
+ * <p>The points are compiled with the annotation processor of the {@code processor} module, so
+ * they are serialized by generated codecs, except {@link ReflectionPoint} whose private fields
+ * cannot be accessed by a codec.
+ *
+ * @author TozyMC
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializationBenchmark {
+
+  private final FieldPoint fieldPoint = new FieldPoint(1, 2.5, "point");
+  private final MethodPoint methodPoint = new MethodPoint(1, 2.5, "point");
+  private final ReflectionPoint reflectionPoint = new ReflectionPoint(1, 2.5, "point");
+  private Map<?, ?> fieldMap, methodMap, reflectionMap;
+  private FileConfiguration config;
+
+  @Setup
+  public void setup() throws IOException {
+    fieldMap = ConfigurationSerializers.serialize(fieldPoint);
+    methodMap = ConfigurationSerializers.serialize(methodPoint);
+    reflectionMap = ConfigurationSerializers.serialize(reflectionPoint);
+
+    config = ConfigFormat.JSON.open(ConfigFormat.JSON.createTempFile());
+    config.set("point", fieldPoint);
+  }
+
+  @TearDown
+  public void tearDown() {
+    config.close();
+  }
+
+  @Benchmark
+  public Map<?, ?> serializeFields() {
+    return ConfigurationSerializers.serialize(fieldPoint);
+  }
+
+  @Benchmark
+  public FieldPoint deserializeFields() {
+    return ConfigurationSerializers.deserialize(fieldMap, FieldPoint.class);
+  }
+
+  @Benchmark
+  public Map<?, ?> serializeMethods() {
+    return ConfigurationSerializers.serialize(methodPoint);
+  }
+
+  @Benchmark
+  public MethodPoint deserializeMethods() {
+    return ConfigurationSerializers.deserialize(methodMap, MethodPoint.class);
+  }
+
+  @Benchmark
+  public Map<?, ?> serializeReflection() {
+    return ConfigurationSerializers.serialize(reflectionPoint);
+  }
+
+  @Benchmark
+  public ReflectionPoint deserializeReflection() {
+    return ConfigurationSerializers.deserialize(reflectionMap, ReflectionPoint.class);
+  }
+
+  @Benchmark
+  public FieldPoint configRoundTrip() {
+    config.set("point", fieldPoint);
+    return config.getSerializable("point", FieldPoint.class);
+  }
+
+  @ConfigurationSerializable
+  public static class FieldPoint {
+
+    @SerialKey("x")
+    int x;
+    @SerialKey("y")
+    double y;
+    @SerialKey("name")
+    String name;
+
+    FieldPoint() {
+    }
+
+    FieldPoint(int x, double y, String name) {
+      this.x = x;
+      this.y = y;
+      this.name = name;
+    }
+  }
+
+  @ConfigurationSerializable
+  public static class ReflectionPoint {
+
+    @SerialKey("x")
+    private int x;
+    @SerialKey("y")
+    private double y;
+    @SerialKey("name")
+    private String name;
+
+    private ReflectionPoint() {
+    }
+
+    private ReflectionPoint(int x, double y, String name) {
+      this.x = x;
+      this.y = y;
+      this.name = name;
+    }
+  }
+
+  @ConfigurationSerializable(serialize = "serialize", deserialize = "deserialize")
+  public static class MethodPoint {
+
+    private final int x;
+    private final double y;
+    private final String name;
+
+    MethodPoint(int x, double y, String name) {
+      this.x = x;
+      this.y = y;
+      this.name = name;
+    }
+
+    static Map<String, Object> serialize(MethodPoint point) {
+      Map<String, Object> map = new LinkedHashMap<>();
+      map.put("x", point.x);
+      map.put("y", point.y);
+      map.put("name", point.name);
+      return map;
+    }
+
+    static MethodPoint deserialize(Map<?, ?> map) {
+      return new MethodPoint((Integer) map.get("x"), (Double) map.get("y"),
+          (String) map.get("name"));
+    }
+  }
+}
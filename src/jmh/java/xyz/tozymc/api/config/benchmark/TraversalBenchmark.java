@@ -0,0 +1,90 @@
+package xyz.tozymc.api.config.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import xyz.tozymc.api.config.Configuration;
+import xyz.tozymc.api.config.file.FileConfiguration;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures walking whole configurations with {@code getKeys(true)} and {@code toFlatMap(true)}.
+ *
+ * <p>Deep results are cached until the walked section or any of its children is modified, the
+ * cold benchmarks modify a value before each walk so they measure the walk itself instead of
+ * returning the cached result.
+ *
+ * @author TozyMC
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TraversalBenchmark {
+
+  @Param({"1000", "100000"})
+  public int keys;
+
+  private FileConfiguration config;
+  private int counter;
+
+  @Setup
+  public void setup() throws IOException {
+    config = ConfigFormat.JSON.open(ConfigFormat.JSON.createTempFile());
+    ConfigFormat.populate(config, keys);
+  }
+
+  @TearDown
+  public void tearDown() {
+    config.close();
+  }
+
+  @Benchmark
+  public Set<String> getKeysDeep() {
+    return config.getKeys(true);
+  }
+
+  @Benchmark
+  public Map<String, ?> toFlatMapDeep() {
+    return config.toFlatMap(true);
+  }
+
+  @Benchmark
+  public Set<String> getKeysDeepCold() {
+    config.set("section0.key0", counter++);
+    return config.getKeys(true);
+  }
+
+  @Benchmark
+  public Map<String, ?> toFlatMapDeepCold() {
+    config.set("section0.key0", counter++);
+    return config.toFlatMap(true);
+  }
+
+  @Benchmark
+  public Set<String> getKeysShallow() {
+    return config.getKeys(false);
+  }
+
+  @Benchmark
+  public Configuration snapshot() {
+    // The first call copies the tree, the next ones reuse the snapshot
+    return config.snapshot();
+  }
+}
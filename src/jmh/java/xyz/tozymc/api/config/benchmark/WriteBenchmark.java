@@ -0,0 +1,74 @@
+package xyz.tozymc.api.config.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import xyz.tozymc.api.config.file.FileConfiguration;
+import xyz.tozymc.api.config.file.setting.ReloadType;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@code set} under each {@link ReloadType}, including the saves they trigger.
+ *
+ * @author TozyMC
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WriteBenchmark {
+
+  @Param({"AUTOMATIC", "INTELLIGENT", "WATCHED", "MANUAL"})
+  public ReloadType reloadType;
+
+  @Param({"0", "100"})
+  public long saveDelay;
+
+  private FileConfiguration config;
+  private int counter;
+
+  @Setup
+  public void setup() throws IOException {
+    config = ConfigFormat.JSON.open(ConfigFormat.JSON.createTempFile());
+    ConfigFormat.populate(config, 1000);
+    config.save();
+    config.getSetting().reloadType(reloadType).saveDelay(saveDelay);
+    config.load();
+  }
+
+  @TearDown
+  public void tearDown() {
+    config.close();
+  }
+
+  @Benchmark
+  public Optional<?> setChanged() {
+    return config.set("section5.key1", counter++);
+  }
+
+  @Benchmark
+  public Optional<?> setUnchanged() {
+    // Value set by ConfigFormat#populate
+    return config.set("section6.key1", 601);
+  }
+
+  @Benchmark
+  public Optional<?> setNewKey() {
+    return config.set(ConfigFormat.path(1000 + (counter++ & 0xFFFF)), counter);
+  }
+}
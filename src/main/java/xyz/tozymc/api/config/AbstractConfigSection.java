@@ -0,0 +1,906 @@
+package xyz.tozymc.api.config;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import xyz.tozymc.api.config.serialization.handler.ConfigurationSerializers;
+import xyz.tozymc.api.util.NumberConversations;
+import xyz.tozymc.api.util.Preconditions;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Base implementation of {@link ConfigSection} that provides all typed getters on top of a single
+ * lookup by {@link ConfigPath}.
+ *
+ * <p>Getters taking a path string compile it with {@link #compilePath(String)} and delegate to the
+ * overload taking a {@link ConfigPath}, which reads the value with {@link #getValue(ConfigPath)}.
+ *
+ * @author TozyMC
+ * @since 1.0
+ */
+public abstract class AbstractConfigSection implements ConfigSection {
+
+  private static final int[] EMPTY_INT_ARRAY = new int[0];
+  private static final long[] EMPTY_LONG_ARRAY = new long[0];
+  private static final double[] EMPTY_DOUBLE_ARRAY = new double[0];
+  private static final boolean[] EMPTY_BOOLEAN_ARRAY = new boolean[0];
+  private static final Function<List<?>, Object> INT_ARRAY = AbstractConfigSection::toIntArray;
+  private static final Function<List<?>, Object> LONG_ARRAY = AbstractConfigSection::toLongArray;
+  private static final Function<List<?>, Object> DOUBLE_ARRAY =
+      AbstractConfigSection::toDoubleArray;
+  private static final Function<List<?>, Object> BOOLEAN_ARRAY =
+      AbstractConfigSection::toBooleanArray;
+
+  /**
+   * Compiles the specified path using the path separator of this section.
+   *
+   * @param path Path to compile, never null.
+   * @return Compiled path.
+   */
+  @NotNull
+  protected abstract ConfigPath compilePath(@NotNull String path);
+
+  /**
+   * Gets the raw value at the specified path, returning null if not found.
+   *
+   * @param path Path of the value, never null.
+   * @return Raw value or null.
+   */
+  @Nullable
+  protected abstract Object getValue(@NotNull ConfigPath path);
+
+  /**
+   * Checks if a value exists at the specified path.
+   *
+   * @param path Path to check, never null.
+   * @return Whether or not the path exists.
+   */
+  protected abstract boolean containsValue(@NotNull ConfigPath path);
+
+  /**
+   * Gets the array converted from the list at the specified path, returning null if the value is
+   * not a list.
+   *
+   * <p>The default implementation converts the list on every call, implementations may cache the
+   * converted array until the list is set again.
+   *
+   * @param path      Path of the list, never null.
+   * @param converter Converter of the list, one of the shared array converters.
+   * @return Converted array or null.
+   */
+  @Nullable
+  protected Object getArrayValue(@NotNull ConfigPath path,
+      @NotNull Function<List<?>, Object> converter) {
+    Object val = getValue(path);
+    return val instanceof List ? converter.apply((List<?>) val) : null;
+  }
+
+  protected final ConfigPath compile(String path) {
+    Preconditions.checkNotNull(path, "Path cannot be null");
+
+    return compilePath(path);
+  }
+
+  private <T> T getSerializable0(ConfigPath path, Class<T> clazz) {
+    if (!ConfigurationSerializers.isSerializableClass(clazz)) {
+      return null;
+    }
+    Object val = getValue(path);
+    if (val instanceof ConfigSection) {
+      val = toNestedMap((ConfigSection) val);
+    }
+    if (!(val instanceof Map)) {
+      return null;
+    }
+    return deserialize((Map<?, ?>) val, clazz);
+  }
+
+  /**
+   * Deserializes the specified map into a new instance of the specified class, called by the
+   * serializable getters of this section.
+   *
+   * @param map   Values of the object.
+   * @param clazz Class to deserialize into.
+   * @param <T>   Type of object.
+   * @return New instance of the specified class.
+   */
+  protected <T> T deserialize(@NotNull Map<?, ?> map, @NotNull Class<T> clazz) {
+    return ConfigurationSerializers.deserialize(map, clazz);
+  }
+
+  /**
+   * Gets the entries of this section, without the entries of its child sections, as key and value
+   * pairs: {@code [key0, value0, key1, value1, ...]}. Values of child sections must be {@link
+   * ConfigSection}s.
+   *
+   * <p>The default implementation reads {@link #toFlatMap(boolean)}, subclasses should read their
+   * entries directly.
+   *
+   * @return Entries of this section.
+   */
+  @NotNull
+  protected Object[] childEntries() {
+    return toEntryArray(toFlatMap(false));
+  }
+
+  static Object[] childEntries(ConfigSection section) {
+    return section instanceof AbstractConfigSection
+        ? ((AbstractConfigSection) section).childEntries()
+        : toEntryArray(section.toFlatMap(false));
+  }
+
+  private static Object[] toEntryArray(Map<String, ?> map) {
+    Object[] entries = new Object[map.size() * 2];
+    int i = 0;
+    for (Map.Entry<String, ?> entry : map.entrySet()) {
+      entries[i++] = entry.getKey();
+      entries[i++] = entry.getValue();
+    }
+    return entries;
+  }
+
+  static boolean walk(ConfigSection section, ConfigEntry parent, ConfigVisitor visitor,
+      char separator) {
+    Object[] entries = childEntries(section);
+    for (int i = 0; i < entries.length; i += 2) {
+      ConfigEntry entry = new ConfigEntry(parent, (String) entries[i], entries[i + 1], separator);
+      ConfigVisitor.Result result = visitor.visit(entry);
+      Preconditions.checkNotNull(result, "Visitor result cannot be null");
+      if (result == ConfigVisitor.Result.TERMINATE) {
+        return false;
+      }
+      if (result == ConfigVisitor.Result.CONTINUE && entry.isSection()
+          && !walk((ConfigSection) entry.getValue(), entry, visitor, separator)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static Map<String, Object> toNestedMap(ConfigSection section) {
+    Map<String, Object> map = new LinkedHashMap<>();
+    section.toFlatMap(false).forEach((key, val) -> map.put(key,
+        val instanceof ConfigSection ? toNestedMap((ConfigSection) val) : val));
+    return map;
+  }
+
+  @Override
+  public boolean contains(@NotNull String path) {
+    return contains(compile(path));
+  }
+
+  @Override
+  public boolean contains(@NotNull ConfigPath path) {
+    Preconditions.checkNotNull(path, "Path cannot be null");
+
+    return containsValue(path);
+  }
+
+  @Override
+  public @Nullable Object getObject(@NotNull String path) {
+    return getObject(compile(path));
+  }
+
+  @Override
+  public @Nullable Object getObject(@NotNull ConfigPath path) {
+    Preconditions.checkNotNull(path, "Path cannot be null");
+
+    return getValue(path);
+  }
+
+  @Override
+  public @Nullable Object getObject(@NotNull String path, Object def) {
+    return getObject(compile(path), def);
+  }
+
+  @Override
+  public @Nullable Object getObject(@NotNull ConfigPath path, Object def) {
+    Preconditions.checkNotNull(path, "Path cannot be null");
+
+    Object val = getValue(path);
+    return val != null ? val : def;
+  }
+
+  @Override
+  public boolean isByte(@NotNull String path) {
+    return isByte(compile(path));
+  }
+
+  @Override
+  public boolean isByte(@NotNull ConfigPath path) {
+    Preconditions.checkNotNull(path, "Path cannot be null");
+
+    Object val = getValue(path);
+    return val instanceof Byte;
+  }
+
+  @Override
+  public byte getByte(@NotNull String path) {
+    return getByte(compile(path));
+  }
+
+  @Override
+  public byte getByte(@NotNull ConfigPath path) {
+    Preconditions.checkNotNull(path, "Path cannot be null");
+
+    Object val = getValue(path);
+    return NumberConversations.toByte(val);
+  }
+
+  @Override
+  public byte getByte(@NotNull String path, byte def) {
+    return getByte(compile(path), def);
+  }
+
+  @Override
+  public byte getByte(@NotNull ConfigPath path, byte def) {
+    Preconditions.checkNotNull(path, "Path cannot be null");
+
+    Object val = getValue(path);
+    return val instanceof Number ? NumberConversations.toByte(val) : def;
+  }
+
+  @Override
+  public boolean isInt(@NotNull String path) {
+    return isInt(compile(path));
+  }
+
+  @Override
+  public boolean isInt(@NotNull ConfigPath path) {
+    Preconditions.checkNotNull(path, "Path cannot be null");
+
+    Object val = getValue(path);
+    return val instanceof Integer;
+  }
+
+  @Override
+  public int getInt(@NotNull String path) {
+    return getInt(compile(path));
+  }
+
+  @Override
+  public int getInt(@NotNull ConfigPath path) {
+    Preconditions.checkNotNull(path, "Path cannot be null");
+
+    Object val = getValue(path);
+    return NumberConversations.toInt(val);
+  }
+
+  @Override
+  public int getInt(@NotNull String path, int def) {
+    return getInt(compile(path), def);
+  }
+
+  @Override
+  public int getInt(@NotNull ConfigPath path, int def) {
+    Preconditions.checkNotNull(path, "Path cannot be null");
+
+    Object val = getValue(path);
+    return val instanceof Number ? NumberConversations.toInt(val) : def;
+  }
+
+  @Override
+  public boolean isLong(@NotNull String path) {
+    return isLong(compile(path));
+  }
+
+  @Override
+  public boolean isLong(@NotNull ConfigPath path) {
+    Preconditions.checkNotNull(path, "Path cannot be null");
+
+    Object val = getValue(path);
+    return val instanceof Long;
+  }
+
+  @Override
+  public long getLong(@NotNull String path) {
+    return getLong(compile(path));
+  }
+
+  @Override
+  public long getLong(@NotNull ConfigPath path) {
+    Preconditions.checkNotNull(path, "Path cannot be null");
+
+    Object val = getValue(path);
+    return NumberConversations.toLong(val);
+  }
+
+  @Override
+  public long getLong(@NotNull String path, long def) {
+    return getLong(compile(path), def);
+  }
+
+  @Override
+  public long getLong(@NotNull ConfigPath path, long def) {
+    Preconditions.checkNotNull(path, "Path cannot be null");
+
+    Object val = getValue(path);
+    return val instanceof Number ? NumberConversations.toLong(val) : def;
+  }
+
+  @Override
+  public boolean isDouble(@NotNull String path) {
+    return isDouble(compile(path));
+  }
+
+  @Override
+  public boolean isDouble(@NotNull ConfigPath path) {
+    Preconditions.checkNotNull(path, "Path cannot be null");
+
+    Object val = getValue(path);
+    return val instanceof Double;
+  }
+
+  @Override
+  public double getDouble(@NotNull String path) {
+    return getDouble(compile(path));
+  }
+
+  @Override
+  public double getDouble(@NotNull ConfigPath path) {
+    Preconditions.checkNotNull(path, "Path cannot be null");
+
+    Object val = getValue(path);
+    return NumberConversations.toDouble(val);
+  }
+
+  @Override
+  public double getDouble(@NotNull String path, double def) {
+    return getDouble(compile(path), def);
+  }
+
+  @Override
+  public double getDouble(@NotNull ConfigPath path, double def) {
+    Preconditions.checkNotNull(path, "Path cannot be null");
+
+    Object val = getValue(path);
+    return val instanceof Number ? NumberConversations.toDouble(val) : def;
+  }
+
+  @Override
+  public boolean isBoolean(@NotNull String path) {
+    return isBoolean(compile(path));
+  }
+
+  @Override
+  public boolean isBoolean(@NotNull ConfigPath path) {
+    Preconditions.checkNotNull(path, "Path cannot be null");
+
+    Object val = getValue(path);
+    return val instanceof Boolean;
+  }
+
+  @Override
+  public boolean getBoolean(@NotNull String path) {
+    return getBoolean(compile(path));
+  }
+
+  @Override
+  public boolean getBoolean(@NotNull ConfigPath path) {
+    Preconditions.checkNotNull(path, "Path cannot be null");
+
+    Object val = getValue(path);
+    return val instanceof Boolean ? (Boolean) val : false;
+  }
+
+  @Override
+  public boolean getBoolean(@NotNull String path, boolean def) {
+    return getBoolean(compile(path), def);
+  }
+
+  @Override
+  public boolean getBoolean(@NotNull ConfigPath path, boolean def) {
+    Preconditions.checkNotNull(path, "Path cannot be null");
+
+    Object val = getValue(path);
+    return val instanceof Boolean ? (Boolean) val : def;
+  }
+
+  @Override
+  public boolean isChar(@NotNull String path) {
+    return isChar(compile(path));
+  }
+
+  @Override
+  public boolean isChar(@NotNull ConfigPath path) {
+    Preconditions.checkNotNull(path, "Path cannot be null");
+
+    Object val = getValue(path);
+    return val instanceof Character;
+  }
+
+  @Override
+  public char getChar(@NotNull String path) {
+    return getChar(compile(path));
+  }
+
+  @Override
+  public char getChar(@NotNull ConfigPath path) {
+    Preconditions.checkNotNull(path, "Path cannot be null");
+
+    Object val = getValue(path);
+    return val instanceof Character ? (Character) val : 0;
+  }
+
+  @Override
+  public char getChar(@NotNull String path, char def) {
+    return getChar(compile(path), def);
+  }
+
+  @Override
+  public char getChar(@NotNull ConfigPath path, char def) {
+    Preconditions.checkNotNull(path, "Path cannot be null");
+
+    Object val = getValue(path);
+    return val instanceof Character ? (Character) val : def;
+  }
+
+  @Override
+  public boolean isString(@NotNull String path) {
+    return isString(compile(path));
+  }
+
+  @Override
+  public boolean isString(@NotNull ConfigPath path) {
+    Preconditions.checkNotNull(path, "Path cannot be null");
+
+    Object val = getValue(path);
+    return val instanceof String;
+  }
+
+  @Override
+  public @NotNull String getString(@NotNull String path) {
+    return getString(compile(path));
+  }
+
+  @Override
+  public @NotNull String getString(@NotNull ConfigPath path) {
+    Preconditions.checkNotNull(path, "Path cannot be null");
+
+    return String.valueOf(getValue(path));
+  }
+
+  @Override
+  public @NotNull String getString(@NotNull String path, String def) {
+    return getString(compile(path), def);
+  }
+
+  @Override
+  public @NotNull String getString(@NotNull ConfigPath path, String def) {
+    Preconditions.checkNotNull(path, "Path cannot be null");
+
+    Object val = getValue(path);
+    return val instanceof String ? String.valueOf(val) : def;
+  }
+
+  @Override
+  public boolean isList(@NotNull String path) {
+    return isList(compile(path));
+  }
+
+  @Override
+  public boolean isList(@NotNull ConfigPath path) {
+    Preconditions.checkNotNull(path, "Path cannot be null");
+
+    Object val = getValue(path);
+    return val instanceof List;
+  }
+
+  @Override
+  public @Nullable List<?> getList(@NotNull String path) {
+    return getList(compile(path));
+  }
+
+  @Override
+  public @Nullable List<?> getList(@NotNull ConfigPath path) {
+    Preconditions.checkNotNull(path, "Path cannot be null");
+
+    Object val = getValue(path);
+    return val instanceof List ? (List<?>) val : null;
+  }
+
+  @Override
+  public @Nullable List<?> getList(@NotNull String path, List<?> def) {
+    return getList(compile(path), def);
+  }
+
+  @Override
+  public @Nullable List<?> getList(@NotNull ConfigPath path, List<?> def) {
+    Preconditions.checkNotNull(path, "Path cannot be null");
+
+    Object val = getValue(path);
+    return val instanceof List ? (List<?>) val : def;
+  }
+
+  @Override
+  public @NotNull List<String> getStringList(@NotNull String path) {
+    return getStringList(compile(path));
+  }
+
+  @Override
+  public @NotNull List<String> getStringList(@NotNull ConfigPath path) {
+    Preconditions.checkNotNull(path, "Path cannot be null");
+
+    Object val = getValue(path);
+    if (!(val instanceof List)) {
+      return new ArrayList<>();
+    }
+    return ((List<?>) val).stream().map(String::valueOf).collect(Collectors.toList());
+  }
+
+  @Override
+  public @NotNull List<Byte> getByteList(@NotNull String path) {
+    return getByteList(compile(path));
+  }
+
+  @Override
+  public @NotNull List<Byte> getByteList(@NotNull ConfigPath path) {
+    Preconditions.checkNotNull(path, "Path cannot be null");
+
+    Object val = getValue(path);
+    if (!(val instanceof List)) {
+      return new ArrayList<>();
+    }
+    return ((List<?>) val).stream()
+        .filter(Number.class::isInstance)
+        .map(NumberConversations::toByte)
+        .collect(Collectors.toList());
+  }
+
+  @Override
+  public @NotNull List<Integer> getIntegerList(@NotNull String path) {
+    return getIntegerList(compile(path));
+  }
+
+  @Override
+  public @NotNull List<Integer> getIntegerList(@NotNull ConfigPath path) {
+    Preconditions.checkNotNull(path, "Path cannot be null");
+
+    Object val = getValue(path);
+    if (!(val instanceof List)) {
+      return new ArrayList<>();
+    }
+    return ((List<?>) val).stream()
+        .filter(Number.class::isInstance)
+        .map(NumberConversations::toInt)
+        .collect(Collectors.toList());
+  }
+
+  @Override
+  public @NotNull List<Long> getLongList(@NotNull String path) {
+    return getLongList(compile(path));
+  }
+
+  @Override
+  public @NotNull List<Long> getLongList(@NotNull ConfigPath path) {
+    Preconditions.checkNotNull(path, "Path cannot be null");
+
+    Object val = getValue(path);
+    if (!(val instanceof List)) {
+      return new ArrayList<>();
+    }
+    return ((List<?>) val).stream()
+        .filter(Number.class::isInstance)
+        .map(NumberConversations::toLong)
+        .collect(Collectors.toList());
+  }
+
+  @Override
+  public @NotNull List<Float> getFloatList(@NotNull String path) {
+    return getFloatList(compile(path));
+  }
+
+  @Override
+  public @NotNull List<Float> getFloatList(@NotNull ConfigPath path) {
+    Preconditions.checkNotNull(path, "Path cannot be null");
+
+    Object val = getValue(path);
+    if (!(val instanceof List)) {
+      return new ArrayList<>();
+    }
+    return ((List<?>) val).stream()
+        .filter(Number.class::isInstance)
+        .map(NumberConversations::toFloat)
+        .collect(Collectors.toList());
+  }
+
+  @Override
+  public @NotNull List<Double> getDoubleList(@NotNull String path) {
+    return getDoubleList(compile(path));
+  }
+
+  @Override
+  public @NotNull List<Double> getDoubleList(@NotNull ConfigPath path) {
+    Preconditions.checkNotNull(path, "Path cannot be null");
+
+    Object val = getValue(path);
+    if (!(val instanceof List)) {
+      return new ArrayList<>();
+    }
+    return ((List<?>) val).stream()
+        .filter(Number.class::isInstance)
+        .map(NumberConversations::toDouble)
+        .collect(Collectors.toList());
+  }
+
+  @Override
+  public @NotNull List<Boolean> getBooleanList(@NotNull String path) {
+    return getBooleanList(compile(path));
+  }
+
+  @Override
+  public @NotNull List<Boolean> getBooleanList(@NotNull ConfigPath path) {
+    Preconditions.checkNotNull(path, "Path cannot be null");
+
+    Object val = getValue(path);
+    if (!(val instanceof List)) {
+      return new ArrayList<>();
+    }
+    return ((List<?>) val).stream()
+        .filter(Boolean.class::isInstance)
+        .map(Boolean.class::cast)
+        .collect(Collectors.toList());
+  }
+
+  @Override
+  public @NotNull List<Character> getCharacterList(@NotNull String path) {
+    return getCharacterList(compile(path));
+  }
+
+  @Override
+  public @NotNull List<Character> getCharacterList(@NotNull ConfigPath path) {
+    Preconditions.checkNotNull(path, "Path cannot be null");
+
+    Object val = getValue(path);
+    if (!(val instanceof List)) {
+      return new ArrayList<>();
+    }
+    return ((List<?>) val).stream()
+        .filter(Character.class::isInstance)
+        .map(Character.class::cast)
+        .collect(Collectors.toList());
+  }
+
+  @Override
+  public @NotNull Optional<?> findObject(@NotNull String path) {
+    return findObject(compile(path));
+  }
+
+  @Override
+  public @NotNull Optional<?> findObject(@NotNull ConfigPath path) {
+    Preconditions.checkNotNull(path, "Path cannot be null");
+
+    return Optional.ofNullable(getValue(path));
+  }
+
+  @Override
+  public @NotNull <T> Optional<T> find(@NotNull String path, @NotNull Class<T> clazz) {
+    return find(compile(path), clazz);
+  }
+
+  @Override
+  public @NotNull <T> Optional<T> find(@NotNull ConfigPath path, @NotNull Class<T> clazz) {
+    Preconditions.checkNotNull(path, "Path cannot be null");
+    Preconditions.checkNotNull(clazz, "Clazz cannot be null");
+
+    Object val = getValue(path);
+    return clazz.isInstance(val) ? Optional.of(clazz.cast(val)) : Optional.empty();
+  }
+
+  @Override
+  public <T> @Nullable T get(@NotNull String path, @NotNull Class<T> clazz) {
+    return get(compile(path), clazz);
+  }
+
+  @Override
+  public <T> @Nullable T get(@NotNull ConfigPath path, @NotNull Class<T> clazz) {
+    Preconditions.checkNotNull(path, "Path cannot be null");
+    Preconditions.checkNotNull(clazz, "Clazz cannot be null");
+
+    Object val = getValue(path);
+    if (!clazz.isInstance(val)) {
+      return null;
+    }
+    return clazz.isInstance(val) ? clazz.cast(val) : null;
+  }
+
+  @Override
+  public <T> @Nullable T getOrDefault(@NotNull String path, @NotNull Class<T> clazz, T def) {
+    return getOrDefault(compile(path), clazz, def);
+  }
+
+  @Override
+  public <T> @Nullable T getOrDefault(@NotNull ConfigPath path, @NotNull Class<T> clazz, T def) {
+    Preconditions.checkNotNull(path, "Path cannot be null");
+    Preconditions.checkNotNull(clazz, "Clazz cannot be null");
+
+    Object val = getValue(path);
+    return clazz.isInstance(val) ? clazz.cast(val) : def;
+  }
+
+  @Override
+  public boolean isSection(@NotNull String path) {
+    return isSection(compile(path));
+  }
+
+  @Override
+  public boolean isSection(@NotNull ConfigPath path) {
+    Preconditions.checkNotNull(path, "Path cannot be null");
+
+    return getValue(path) instanceof ConfigSection;
+  }
+
+  @Override
+  public @NotNull Optional<ConfigSection> findSection(@NotNull String path) {
+    return findSection(compile(path));
+  }
+
+  @Override
+  public @NotNull Optional<ConfigSection> findSection(@NotNull ConfigPath path) {
+    Preconditions.checkNotNull(path, "Path cannot be null");
+
+    Object val = getValue(path);
+
+    return val instanceof ConfigSection ? Optional.of((ConfigSection) val) : Optional.empty();
+  }
+
+  @Override
+  public @Nullable ConfigSection getSection(@NotNull String path) {
+    return getSection(compile(path));
+  }
+
+  @Override
+  public @Nullable ConfigSection getSection(@NotNull ConfigPath path) {
+    Preconditions.checkNotNull(path, "Path cannot be null");
+
+    Object val = getValue(path);
+
+    return val instanceof ConfigSection ? (ConfigSection) val : null;
+  }
+
+  @Override
+  public @NotNull <T> Optional<T> findSerializable(@NotNull String path, @NotNull Class<T> clazz) {
+    return findSerializable(compile(path), clazz);
+  }
+
+  @Override
+  public @NotNull <T> Optional<T> findSerializable(@NotNull ConfigPath path,
+      @NotNull Class<T> clazz) {
+    Preconditions.checkNotNull(path, "Path cannot be null");
+    Preconditions.checkNotNull(clazz, "Clazz cannot be null");
+
+    return Optional.ofNullable(getSerializable0(path, clazz));
+  }
+
+  @Override
+  public <T> @Nullable T getSerializable(@NotNull String path, @NotNull Class<T> clazz) {
+    return getSerializable(compile(path), clazz);
+  }
+
+  @Override
+  public <T> @Nullable T getSerializable(@NotNull ConfigPath path, @NotNull Class<T> clazz) {
+    Preconditions.checkNotNull(path, "Path cannot be null");
+    Preconditions.checkNotNull(clazz, "Clazz cannot be null");
+
+    return getSerializable0(path, clazz);
+  }
+
+  @Override
+  public <T> @Nullable T getSerializableOrDefault(@NotNull String path, @NotNull Class<T> clazz,
+      T def) {
+    return getSerializableOrDefault(compile(path), clazz, def);
+  }
+
+  @Override
+  public <T> @Nullable T getSerializableOrDefault(@NotNull ConfigPath path, @NotNull Class<T> clazz,
+      T def) {
+    Preconditions.checkNotNull(path, "Path cannot be null");
+    Preconditions.checkNotNull(clazz, "Clazz cannot be null");
+
+    T val = getSerializable0(path, clazz);
+    return val != null ? val : def;
+  }
+
+  @Override
+  public @NotNull int[] getIntArray(@NotNull String path) {
+    return getIntArray(compile(path));
+  }
+
+  @Override
+  public @NotNull int[] getIntArray(@NotNull ConfigPath path) {
+    Preconditions.checkNotNull(path, "Path cannot be null");
+
+    Object val = getArrayValue(path, INT_ARRAY);
+    return val != null ? (int[]) val : EMPTY_INT_ARRAY;
+  }
+
+  @Override
+  public @NotNull long[] getLongArray(@NotNull String path) {
+    return getLongArray(compile(path));
+  }
+
+  @Override
+  public @NotNull long[] getLongArray(@NotNull ConfigPath path) {
+    Preconditions.checkNotNull(path, "Path cannot be null");
+
+    Object val = getArrayValue(path, LONG_ARRAY);
+    return val != null ? (long[]) val : EMPTY_LONG_ARRAY;
+  }
+
+  @Override
+  public @NotNull double[] getDoubleArray(@NotNull String path) {
+    return getDoubleArray(compile(path));
+  }
+
+  @Override
+  public @NotNull double[] getDoubleArray(@NotNull ConfigPath path) {
+    Preconditions.checkNotNull(path, "Path cannot be null");
+
+    Object val = getArrayValue(path, DOUBLE_ARRAY);
+    return val != null ? (double[]) val : EMPTY_DOUBLE_ARRAY;
+  }
+
+  @Override
+  public @NotNull boolean[] getBooleanArray(@NotNull String path) {
+    return getBooleanArray(compile(path));
+  }
+
+  @Override
+  public @NotNull boolean[] getBooleanArray(@NotNull ConfigPath path) {
+    Preconditions.checkNotNull(path, "Path cannot be null");
+
+    Object val = getArrayValue(path, BOOLEAN_ARRAY);
+    return val != null ? (boolean[]) val : EMPTY_BOOLEAN_ARRAY;
+  }
+
+  private static int[] toIntArray(List<?> list) {
+    int[] array = new int[list.size()];
+    int size = 0;
+    for (Object val : list) {
+      if (val instanceof Number) {
+        array[size++] = ((Number) val).intValue();
+      }
+    }
+    return size == array.length ? array : Arrays.copyOf(array, size);
+  }
+
+  private static long[] toLongArray(List<?> list) {
+    long[] array = new long[list.size()];
+    int size = 0;
+    for (Object val : list) {
+      if (val instanceof Number) {
+        array[size++] = ((Number) val).longValue();
+      }
+    }
+    return size == array.length ? array : Arrays.copyOf(array, size);
+  }
+
+  private static double[] toDoubleArray(List<?> list) {
+    double[] array = new double[list.size()];
+    int size = 0;
+    for (Object val : list) {
+      if (val instanceof Number) {
+        array[size++] = ((Number) val).doubleValue();
+      }
+    }
+    return size == array.length ? array : Arrays.copyOf(array, size);
+  }
+
+  private static boolean[] toBooleanArray(List<?> list) {
+    boolean[] array = new boolean[list.size()];
+    int size = 0;
+    for (Object val : list) {
+      if (val instanceof Boolean) {
+        array[size++] = (Boolean) val;
+      }
+    }
+    return size == array.length ? array : Arrays.copyOf(array, size);
+  }
+}
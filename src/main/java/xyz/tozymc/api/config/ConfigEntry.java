@@ -0,0 +1,148 @@
+package xyz.tozymc.api.config;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import xyz.tozymc.api.util.Preconditions;
+
+/**
+ * An entry of a {@link ConfigSection} found by {@link ConfigSection#walk(ConfigVisitor)} or {@link
+ * ConfigSection#stream(boolean)}.
+ *
+ * <p>An entry only stores its key and a link to the entry of its parent section, so walking a tree
+ * does not build path strings. The path of the entry, relative to the walked section, is only
+ * built when requested by {@link #getPath()} or {@link #toPathString()}.
+ *
+ * @author TozyMC
+ * @since 1.0
+ */
+public final class ConfigEntry {
+
+  private final ConfigEntry parent;
+  private final String key;
+  private final Object value;
+  private final int depth;
+  private final char separator;
+
+  ConfigEntry(@Nullable ConfigEntry parent, @NotNull String key, @Nullable Object value,
+      char separator) {
+    this.parent = parent;
+    this.key = key;
+    this.value = value;
+    this.depth = parent == null ? 1 : parent.depth + 1;
+    this.separator = separator;
+  }
+
+  /**
+   * Gets the key of this entry in its section, the last segment of its path.
+   *
+   * @return Key of this entry.
+   */
+  @NotNull
+  public String getKey() {
+    return key;
+  }
+
+  /**
+   * Gets the value of this entry, a {@link ConfigSection} if this entry is a section.
+   *
+   * @return Value of this entry.
+   */
+  @Nullable
+  public Object getValue() {
+    return value;
+  }
+
+  /**
+   * Checks if the value of this entry is a {@link ConfigSection}.
+   *
+   * @return Whether or not this entry is a section.
+   */
+  public boolean isSection() {
+    return value instanceof ConfigSection;
+  }
+
+  /**
+   * Gets the depth of this entry, 1 for the entries of the walked section, 2 for the entries of
+   * its child sections, etc.
+   *
+   * @return Depth of this entry, also the number of segments of its path.
+   */
+  public int getDepth() {
+    return depth;
+  }
+
+  /**
+   * Gets the entry of the section containing this entry.
+   *
+   * @return Parent entry, or null if this entry belongs to the walked section.
+   */
+  @Nullable
+  public ConfigEntry getParent() {
+    return parent;
+  }
+
+  /**
+   * Gets the segment at the specified index of the path of this entry.
+   *
+   * @param index Index of the segment, from 0 to {@link #getDepth()} - 1.
+   * @return Segment at the index.
+   * @throws IllegalArgumentException Thrown when index is out of range.
+   */
+  @NotNull
+  public String getSegment(int index) {
+    Preconditions.checkArgument(index >= 0 && index < depth, "Index is out of range");
+
+    ConfigEntry entry = this;
+    for (int i = depth - 1; i > index; i--) {
+      entry = entry.parent;
+    }
+    return entry.key;
+  }
+
+  /**
+   * Builds the path of this entry, relative to the walked section.
+   *
+   * @return Path of this entry.
+   */
+  @NotNull
+  public ConfigPath getPath() {
+    String[] segments = new String[depth];
+    for (ConfigEntry entry = this; entry != null; entry = entry.parent) {
+      segments[entry.depth - 1] = entry.key;
+    }
+    return ConfigPath.ofSegments(segments);
+  }
+
+  /**
+   * Builds the path of this entry, relative to the walked section, joined with the path separator
+   * of the configuration.
+   *
+   * @return Path string of this entry.
+   */
+  @NotNull
+  public String toPathString() {
+    if (parent == null) {
+      return key;
+    }
+
+    int length = depth - 1;
+    for (ConfigEntry entry = this; entry != null; entry = entry.parent) {
+      length += entry.key.length();
+    }
+    char[] chars = new char[length];
+    int end = length;
+    for (ConfigEntry entry = this; entry != null; entry = entry.parent) {
+      end -= entry.key.length();
+      entry.key.getChars(0, entry.key.length(), chars, end);
+      if (end > 0) {
+        chars[--end] = separator;
+      }
+    }
+    return new String(chars);
+  }
+
+  @Override
+  public String toString() {
+    return "ConfigEntry[path=" + toPathString() + ", value=" + value + "]";
+  }
+}
@@ -0,0 +1,124 @@
+package xyz.tozymc.api.config;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Lazy {@link Spliterator} of the entries of a section tree, see {@link
+ * ConfigSection#stream(boolean)}.
+ *
+ * <p>The entries of a section are only listed when the traversal reaches it. Splitting hands out
+ * the first half of the remaining entries of the top section, or a single remaining section entry
+ * while keeping its children, so large trees can be traversed in parallel.
+ *
+ * @author TozyMC
+ * @since 1.0
+ */
+final class ConfigEntrySpliterator implements Spliterator<ConfigEntry> {
+
+  private final Deque<Frame> stack = new ArrayDeque<>();
+  private final boolean deep;
+  private final char separator;
+
+  ConfigEntrySpliterator(Object[] entries, boolean deep, char separator) {
+    this(new Frame(entries, 0, entries.length, null), deep, separator);
+  }
+
+  private ConfigEntrySpliterator(Frame frame, boolean deep, char separator) {
+    this.deep = deep;
+    this.separator = separator;
+    stack.push(frame);
+  }
+
+  @Override
+  public boolean tryAdvance(Consumer<? super ConfigEntry> action) {
+    Objects.requireNonNull(action);
+
+    Frame frame = stack.peek();
+    while (frame != null && frame.index == frame.end) {
+      stack.pop();
+      frame = stack.peek();
+    }
+    if (frame == null) {
+      return false;
+    }
+
+    ConfigEntry entry = frame.next(separator);
+    if (deep && entry.isSection()) {
+      Object[] children = AbstractConfigSection.childEntries((ConfigSection) entry.getValue());
+      if (children.length > 0) {
+        stack.push(new Frame(children, 0, children.length, entry));
+      }
+    }
+    action.accept(entry);
+    return true;
+  }
+
+  @Override
+  public Spliterator<ConfigEntry> trySplit() {
+    // Entries of a section being traversed come first, the rest cannot be split as a prefix
+    if (stack.size() != 1) {
+      return null;
+    }
+
+    Frame frame = stack.peek();
+    int remaining = (frame.end - frame.index) / 2;
+    if (remaining > 1) {
+      int mid = frame.index + remaining / 2 * 2;
+      Frame prefix = new Frame(frame.entries, frame.index, mid, frame.parent);
+      frame.index = mid;
+      return new ConfigEntrySpliterator(prefix, deep, separator);
+    }
+    if (remaining == 1 && deep && frame.entries[frame.index + 1] instanceof ConfigSection) {
+      Frame single = new Frame(frame.entries, frame.index, frame.end, frame.parent);
+      ConfigEntry entry = frame.next(separator);
+      Object[] children = AbstractConfigSection.childEntries((ConfigSection) entry.getValue());
+      stack.pop();
+      stack.push(new Frame(children, 0, children.length, entry));
+      return new ConfigEntrySpliterator(single, false, separator);
+    }
+    return null;
+  }
+
+  @Override
+  public long estimateSize() {
+    if (deep) {
+      return Long.MAX_VALUE;
+    }
+    Frame frame = stack.peek();
+    return frame == null ? 0 : (frame.end - frame.index) / 2;
+  }
+
+  @Override
+  public int characteristics() {
+    return deep ? ORDERED | NONNULL : ORDERED | NONNULL | SIZED | SUBSIZED;
+  }
+
+  /**
+   * Range of the remaining entries of a section, stored as key and value pairs.
+   */
+  private static final class Frame {
+
+    private final Object[] entries;
+    private final int end;
+    private final ConfigEntry parent;
+    private int index;
+
+    private Frame(Object[] entries, int index, int end, ConfigEntry parent) {
+      this.entries = entries;
+      this.index = index;
+      this.end = end;
+      this.parent = parent;
+    }
+
+    private ConfigEntry next(char separator) {
+      ConfigEntry entry = new ConfigEntry(parent, (String) entries[index], entries[index + 1],
+          separator);
+      index += 2;
+      return entry;
+    }
+  }
+}
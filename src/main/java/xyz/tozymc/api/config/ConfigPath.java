@@ -0,0 +1,199 @@
+package xyz.tozymc.api.config;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import xyz.tozymc.api.util.Preconditions;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Represents a pre-compiled path of a {@link ConfigSection}.
+ *
+ * <p>The path is split into its segments once, and the hash is cached.
+ * Passing the same {@link ConfigPath} to the getters of {@link DataSection} or {@link
+ * ConfigSection} avoids scanning and splitting the path string on every lookup.
+ *
+ * <p>A {@link ConfigPath} is immutable and independent of the path separator once it is created,
+ * so it can be stored in a constant and shared between threads.
+ *
+ * @author TozyMC
+ * @since 1.0
+ */
+public final class ConfigPath {
+
+  /**
+   * The empty path, it refers to the section itself.
+   */
+  public static final ConfigPath EMPTY = new ConfigPath(new String[0], "");
+
+  private static final char DEFAULT_SEPARATOR = '.';
+
+  private final String[] segments;
+  private final String path;
+  private final int hash;
+
+  private ConfigPath(String[] segments, String path) {
+    this.segments = segments;
+    this.path = path;
+    this.hash = Arrays.hashCode(segments);
+  }
+
+  /**
+   * Compiles the specified path using the default separator '.'.
+   *
+   * @param path Path to compile.
+   * @return Compiled path.
+   * @throws IllegalArgumentException Thrown when path is null.
+   */
+  @NotNull
+  public static ConfigPath of(@NotNull String path) {
+    return of(path, DEFAULT_SEPARATOR);
+  }
+
+  /**
+   * Compiles the specified path using the given separator.
+   *
+   * @param path      Path to compile.
+   * @param separator Separator of the path.
+   * @return Compiled path.
+   * @throws IllegalArgumentException Thrown when path is null.
+   */
+  @NotNull
+  public static ConfigPath of(@NotNull String path, char separator) {
+    Preconditions.checkNotNull(path, "Path cannot be null");
+
+    if (path.isEmpty()) {
+      return EMPTY;
+    }
+
+    List<String> segments = new ArrayList<>();
+    int start = 0;
+    for (int index = path.indexOf(separator); index != -1;
+        index = path.indexOf(separator, start)) {
+      segments.add(path.substring(start, index));
+      start = index + 1;
+    }
+    segments.add(path.substring(start));
+    return new ConfigPath(segments.toArray(new String[0]), path);
+  }
+
+  /**
+   * Creates a path from the specified segments, none of them will be split.
+   *
+   * @param segments Segments of the path.
+   * @return Compiled path.
+   * @throws IllegalArgumentException Thrown when segments or any segment is null.
+   */
+  @NotNull
+  public static ConfigPath ofSegments(@NotNull String... segments) {
+    Preconditions.checkNotNull(segments, "Segments cannot be null");
+
+    if (segments.length == 0) {
+      return EMPTY;
+    }
+
+    String[] copy = new String[segments.length];
+    for (int i = 0; i < segments.length; i++) {
+      copy[i] = Preconditions.checkNotNull(segments[i], "Segment cannot be null");
+    }
+    return new ConfigPath(copy, String.join(String.valueOf(DEFAULT_SEPARATOR), copy));
+  }
+
+  /**
+   * Gets the number of segments in this path.
+   *
+   * @return Number of segments.
+   */
+  @Contract(pure = true)
+  public int length() {
+    return segments.length;
+  }
+
+  /**
+   * Checks if this path has no segments.
+   *
+   * @return Whether or not this path is empty.
+   */
+  @Contract(pure = true)
+  public boolean isEmpty() {
+    return segments.length == 0;
+  }
+
+  /**
+   * Gets the segment at the specified index.
+   *
+   * @param index Index of the segment.
+   * @return Segment at the index.
+   * @throws IndexOutOfBoundsException Thrown when index is out of range.
+   */
+  @NotNull
+  public String segment(int index) {
+    return segments[index];
+  }
+
+  /**
+   * Gets the last segment of this path, returning an empty string if this path is empty.
+   *
+   * @return Last segment.
+   */
+  @NotNull
+  public String lastSegment() {
+    return segments.length == 0 ? "" : segments[segments.length - 1];
+  }
+
+  /**
+   * Checks if this path starts with all the segments of the specified path.
+   *
+   * @param prefix Path to check.
+   * @return Whether or not this path is the specified path, or a path under it.
+   * @throws IllegalArgumentException Thrown when prefix is null.
+   */
+  @Contract(pure = true)
+  public boolean startsWith(@NotNull ConfigPath prefix) {
+    Preconditions.checkNotNull(prefix, "Prefix cannot be null");
+
+    if (prefix.segments.length > segments.length) {
+      return false;
+    }
+    for (int i = 0; i < prefix.segments.length; i++) {
+      if (!segments[i].equals(prefix.segments[i])) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof ConfigPath)) {
+      return false;
+    }
+    ConfigPath other = (ConfigPath) o;
+    return hash == other.hash && Arrays.equals(segments, other.segments);
+  }
+
+  @Override
+  public int hashCode() {
+    return hash;
+  }
+
+  // Used by the default methods of the section interfaces, which delegate to the String overloads
+  static String toPathString(ConfigPath path) {
+    return Preconditions.checkNotNull(path, "Path cannot be null").path;
+  }
+
+  /**
+   * Returns the path string that this path was compiled from.
+   *
+   * @return Path string.
+   */
+  @Override
+  public String toString() {
+    return path;
+  }
+}
@@ -5,14 +5,21 @@ import org.jetbrains.annotations.Nullable;
 import xyz.tozymc.api.config.exception.ConfigurationException;
 import xyz.tozymc.api.config.exception.ConfigurationSerializationException;
 import xyz.tozymc.api.config.serialization.ConfigurationSerializable;
+import xyz.tozymc.api.util.Preconditions;
 
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Represents a section of a {@link Configuration}, it stores configuration data values.
  *
+ * <p>Like in {@link DataSection}, the methods taking a {@link ConfigPath} delegate to their
+ * {@link String} overloads by default. {@link #walk(ConfigVisitor)} and {@link #stream(boolean)}
+ * read the entries through {@link #toFlatMap(boolean)} by default.
+ *
  * @author TozyMC
  * @see DataSection
  * @since 1.0
@@ -38,6 +45,18 @@ public interface ConfigSection extends DataSection {
    */
   @NotNull Optional<?> findObject(@NotNull String path);
 
+  /**
+   * Finds the requested object by compiled path, returning a {@link Optional#empty()} if not found.
+   *
+   * @param path Compiled path of the object to find.
+   * @return Optional of requested object.
+   * @throws IllegalArgumentException Thrown when path is null.
+   * @see #findObject(String)
+   */
+  default @NotNull Optional<?> findObject(@NotNull ConfigPath path) {
+    return findObject(ConfigPath.toPathString(path));
+  }
+
   /**
    * Finds the requested object which is casted by path, returning a {@link Optional#empty()} if not
    * found.
@@ -53,6 +72,21 @@ public interface ConfigSection extends DataSection {
    */
   @NotNull <T> Optional<T> find(@NotNull String path, @NotNull Class<T> clazz);
 
+  /**
+   * Finds the requested object which is casted by compiled path, returning a {@link
+   * Optional#empty()} if not found.
+   *
+   * @param path  Compiled path of the object to find.
+   * @param clazz Class to find into.
+   * @param <T>   Type of the object.
+   * @return Optional of requested object which is casted.
+   * @throws IllegalArgumentException Thrown when path or type is null.
+   * @see #find(String, Class)
+   */
+  default @NotNull <T> Optional<T> find(@NotNull ConfigPath path, @NotNull Class<T> clazz) {
+    return find(ConfigPath.toPathString(path), clazz);
+  }
+
   /**
    * Gets the requested object by path which is casted, returning null if not found.
    *
@@ -66,6 +100,20 @@ public interface ConfigSection extends DataSection {
    */
   @Nullable <T> T get(@NotNull String path, @NotNull Class<T> clazz);
 
+  /**
+   * Gets the requested object by compiled path which is casted, returning null if not found.
+   *
+   * @param path  Compiled path of the object.
+   * @param clazz Class to get into.
+   * @param <T>   Type of the object.
+   * @return Requested object which is casted.
+   * @throws IllegalArgumentException Thrown when path or type is null.
+   * @see #get(String, Class)
+   */
+  default @Nullable <T> T get(@NotNull ConfigPath path, @NotNull Class<T> clazz) {
+    return get(ConfigPath.toPathString(path), clazz);
+  }
+
   /**
    * Gets the requested object by path which is casted, returning the default value if not found.
    *
@@ -80,6 +128,22 @@ public interface ConfigSection extends DataSection {
    */
   @Nullable <T> T getOrDefault(@NotNull String path, @NotNull Class<T> clazz, T def);
 
+  /**
+   * Gets the requested object by compiled path which is casted, returning the default value if not
+   * found.
+   *
+   * @param path  Compiled path of the object.
+   * @param clazz Class to get into.
+   * @param def   The default object to return if the object is not present at the path
+   * @param <T>   Type of the object.
+   * @return Requested object which is casted.
+   * @throws IllegalArgumentException Thrown when path or type is null.
+   * @see #getOrDefault(String, Class, Object)
+   */
+  default @Nullable <T> T getOrDefault(@NotNull ConfigPath path, @NotNull Class<T> clazz, T def) {
+    return getOrDefault(ConfigPath.toPathString(path), clazz, def);
+  }
+
   /**
    * Sets the specified path to the given value.
    *
@@ -105,6 +169,18 @@ public interface ConfigSection extends DataSection {
    */
   boolean isSection(@NotNull String path);
 
+  /**
+   * Checks if the specified compiled path is a {@link ConfigSection}.
+   *
+   * @param path Compiled path of the section to check.
+   * @return Whether or not the specified path is a section.
+   * @throws IllegalArgumentException Thrown when path is null.
+   * @see #isSection(String)
+   */
+  default boolean isSection(@NotNull ConfigPath path) {
+    return isSection(ConfigPath.toPathString(path));
+  }
+
   /**
    * Finds the requested {@link ConfigSection} by path, returning a {@link Optional#empty()} if not
    * found.
@@ -115,6 +191,19 @@ public interface ConfigSection extends DataSection {
    */
   @NotNull Optional<ConfigSection> findSection(@NotNull String path);
 
+  /**
+   * Finds the requested {@link ConfigSection} by compiled path, returning a {@link
+   * Optional#empty()} if not found.
+   *
+   * @param path Compiled path of the section to find.
+   * @return Optional of requested section.
+   * @throws IllegalArgumentException Thrown when path is null.
+   * @see #findSection(String)
+   */
+  default @NotNull Optional<ConfigSection> findSection(@NotNull ConfigPath path) {
+    return findSection(ConfigPath.toPathString(path));
+  }
+
   /**
    * Gets the requested {@link ConfigSection} by path.
    * <p>If the requested {@link ConfigSection} does not exist or is not a section, this will return
@@ -126,6 +215,18 @@ public interface ConfigSection extends DataSection {
    */
   @Nullable ConfigSection getSection(@NotNull String path);
 
+  /**
+   * Gets the requested {@link ConfigSection} by compiled path.
+   *
+   * @param path Compiled path of the section to get.
+   * @return Requested section.
+   * @throws IllegalArgumentException Thrown when path is null.
+   * @see #getSection(String)
+   */
+  default @Nullable ConfigSection getSection(@NotNull ConfigPath path) {
+    return getSection(ConfigPath.toPathString(path));
+  }
+
   /**
    * Creates an empty {@link ConfigSection} at the specified path.
    *
@@ -165,6 +266,24 @@ public interface ConfigSection extends DataSection {
    */
   @NotNull <T> Optional<T> findSerializable(@NotNull String path, @NotNull Class<T> clazz);
 
+  /**
+   * Finds the requested {@link ConfigurationSerializable} object by compiled path, returning a
+   * {@link Optional#empty()} if not found.
+   *
+   * @param path  Compiled path of the requested object to find.
+   * @param clazz Class to serialize into.
+   * @param <T>   Type of requested object
+   * @return Optional of requested serializable object.
+   * @throws IllegalArgumentException            Thrown when path or type is null.
+   * @throws ConfigurationSerializationException Thrown when class is not a serializable class or
+   *                                             error when serialize object.
+   * @see #findSerializable(String, Class)
+   */
+  default @NotNull <T> Optional<T> findSerializable(@NotNull ConfigPath path,
+      @NotNull Class<T> clazz) {
+    return findSerializable(ConfigPath.toPathString(path), clazz);
+  }
+
   /**
    * Gets the requested {@link ConfigurationSerializable} object by path, returning null if not
    * found.
@@ -181,6 +300,23 @@ public interface ConfigSection extends DataSection {
    */
   @Nullable <T> T getSerializable(@NotNull String path, @NotNull Class<T> clazz);
 
+  /**
+   * Gets the requested {@link ConfigurationSerializable} object by compiled path, returning null
+   * if not found.
+   *
+   * @param path  Compiled path of the object.
+   * @param clazz Class to get into.
+   * @param <T>   Type of the object.
+   * @return Requested serializable object.
+   * @throws IllegalArgumentException            Thrown when path or type is null.
+   * @throws ConfigurationSerializationException Thrown when class is not a serializable class or
+   *                                             error when serialize object.
+   * @see #getSerializable(String, Class)
+   */
+  default @Nullable <T> T getSerializable(@NotNull ConfigPath path, @NotNull Class<T> clazz) {
+    return getSerializable(ConfigPath.toPathString(path), clazz);
+  }
+
   /**
    * Gets the requested {@link ConfigurationSerializable} object by path, returning the default
    * value if not found.
@@ -198,6 +334,25 @@ public interface ConfigSection extends DataSection {
    */
   @Nullable <T> T getSerializableOrDefault(@NotNull String path, @NotNull Class<T> clazz, T def);
 
+  /**
+   * Gets the requested {@link ConfigurationSerializable} object by compiled path, returning the
+   * default value if not found.
+   *
+   * @param path  Compiled path of the object.
+   * @param clazz Class to get into.
+   * @param def   The default object to return if the object is not present at the path
+   * @param <T>   Type of the object.
+   * @return Requested serializable object.
+   * @throws IllegalArgumentException            Thrown when path or type is null.
+   * @throws ConfigurationSerializationException Thrown when class is not a serializable class or
+   *                                             error when serialize object.
+   * @see #getSerializableOrDefault(String, Class, Object)
+   */
+  default @Nullable <T> T getSerializableOrDefault(@NotNull ConfigPath path,
+      @NotNull Class<T> clazz, T def) {
+    return getSerializableOrDefault(ConfigPath.toPathString(path), clazz, def);
+  }
+
   /**
    * Gets a set containing all the top layer keys in this {@link ConfigSection}.
    *
@@ -244,6 +399,42 @@ public interface ConfigSection extends DataSection {
    */
   @NotNull Map<String, ?> toFlatMap(boolean deep);
 
+  /**
+   * Walks all entries in this {@link ConfigSection} and its child {@link ConfigSection}s (and their
+   * children, etc), in order, calling the specified visitor for each entry.
+   *
+   * <p>Unlike {@link #toFlatMap(boolean)}, no map and no path strings are built, so this is
+   * suitable for scanning large sections.
+   *
+   * <p><b>Notes: </b>The entries of each section are read when the walk reaches the section, so
+   * the visitor can modify the configuration, but modifications of the sections being walked may
+   * not be visited.
+   *
+   * @param visitor Visitor to call for each entry.
+   * @throws IllegalArgumentException Thrown when visitor is null or returns null.
+   */
+  default void walk(@NotNull ConfigVisitor visitor) {
+    Preconditions.checkNotNull(visitor, "Visitor cannot be null");
+
+    AbstractConfigSection.walk(this, null, visitor, getRoot().getSetting().pathSeparator());
+  }
+
+  /**
+   * Gets a lazy, ordered stream of the entries in this {@link ConfigSection}.
+   *
+   * <p>If deep is set to true, the stream contains all the entries within any child {@link
+   * ConfigSection}s (and their children, etc), each section followed by its entries. Sections are
+   * only read when the stream reaches them, and the stream can be split for parallel traversal.
+   *
+   * @param deep Whether or not to stream a deep list, as opposed to a shallow list.
+   * @return Stream of the entries of this section.
+   * @see #walk(ConfigVisitor)
+   */
+  default @NotNull Stream<ConfigEntry> stream(boolean deep) {
+    return StreamSupport.stream(new ConfigEntrySpliterator(AbstractConfigSection.childEntries(this),
+        deep, getRoot().getSetting().pathSeparator()), false);
+  }
+
   /**
    * Gets the name of this {@link ConfigSection}.
    *
@@ -0,0 +1,48 @@
+package xyz.tozymc.api.config;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Visitor of the entries of a {@link ConfigSection}, see {@link ConfigSection#walk(ConfigVisitor)}.
+ *
+ * <p>For example, to count the numbers of a configuration:
+ * <pre>int[] count = {0};
+ * config.walk(entry -&gt; {
+ *   if (entry.getValue() instanceof Number) {
+ *     count[0]++;
+ *   }
+ *   return ConfigVisitor.Result.CONTINUE;
+ * });</pre>
+ *
+ * @author TozyMC
+ * @since 1.0
+ */
+@FunctionalInterface
+public interface ConfigVisitor {
+
+  /**
+   * Visits the specified entry. A section is visited before its entries.
+   *
+   * @param entry Entry to visit.
+   * @return How to continue the walk.
+   */
+  @NotNull Result visit(@NotNull ConfigEntry entry);
+
+  /**
+   * The list of results of {@link #visit(ConfigEntry)}.
+   */
+  enum Result {
+    /**
+     * Continues the walk, with the entries of the visited section if it is a section.
+     */
+    CONTINUE,
+    /**
+     * Continues the walk without the entries of the visited section.
+     */
+    SKIP_CHILDREN,
+    /**
+     * Stops the walk.
+     */
+    TERMINATE
+  }
+}
@@ -19,4 +19,21 @@ public interface Configuration extends ConfigSection {
    * @return Setting of this configuration.
    */
   @NotNull ConfigSetting getSetting();
+
+  /**
+   * Gets an immutable snapshot of this {@link Configuration}.
+   *
+   * <p>The snapshot is not affected by later changes or reloads of this configuration, and its
+   * getters never lock or reload. Sections that are not modified between two snapshots are shared
+   * by them, and taking a snapshot again without any modification returns the same snapshot.
+   *
+   * <p>Notes: Setters of the snapshot throw {@link UnsupportedOperationException}.
+   *
+   * @return Immutable snapshot of this configuration.
+   * @throws UnsupportedOperationException Thrown by the default implementation, when this
+   *                                       configuration does not support snapshots.
+   */
+  default @NotNull Configuration snapshot() {
+    throw new UnsupportedOperationException(getClass().getName() + " does not support snapshots");
+  }
 }
@@ -8,6 +8,10 @@ import java.util.List;
 /**
  * Represents a section of data in {@link Configuration}.
  *
+ * <p>The getters taking a {@link ConfigPath} and the array getters have default implementations
+ * based on the other getters, so existing implementations keep working. Implementations should
+ * override them to avoid parsing the path string again.
+ *
  * @author TozyMC
  * @since 1.0
  */
@@ -21,6 +25,17 @@ public interface DataSection {
    */
   boolean contains(@NotNull String path);
 
+  /**
+   * Checks if the specified compiled path exists or not.
+   *
+   * @param path Compiled path to check for existence.
+   * @return Whether or not the specified path is exist.
+   * @see #contains(String)
+   */
+  default boolean contains(@NotNull ConfigPath path) {
+    return contains(ConfigPath.toPathString(path));
+  }
+
   /**
    * Gets the requested object by path.
    *
@@ -29,6 +44,17 @@ public interface DataSection {
    */
   @Nullable Object getObject(@NotNull String path);
 
+  /**
+   * Gets the requested object by compiled path.
+   *
+   * @param path Compiled path of the object to get.
+   * @return Requested object.
+   * @see #getObject(String)
+   */
+  default @Nullable Object getObject(@NotNull ConfigPath path) {
+    return getObject(ConfigPath.toPathString(path));
+  }
+
   /**
    * Gets the requested object by path, returning the default value if not found.
    *
@@ -38,6 +64,18 @@ public interface DataSection {
    */
   @Nullable Object getObject(@NotNull String path, Object def);
 
+  /**
+   * Gets the requested object by compiled path, returning the default value if not found.
+   *
+   * @param path Compiled path of the object to get.
+   * @param def  The default value to return if path does not exist.
+   * @return Requested object.
+   * @see #getObject(String, Object)
+   */
+  default @Nullable Object getObject(@NotNull ConfigPath path, Object def) {
+    return getObject(ConfigPath.toPathString(path), def);
+  }
+
   /**
    * Checks if the specified path is a byte.
    *
@@ -48,6 +86,17 @@ public interface DataSection {
    */
   boolean isByte(@NotNull String path);
 
+  /**
+   * Checks if the specified compiled path is a byte.
+   *
+   * @param path Compiled path of the byte to check.
+   * @return Whether or not the specified path is a byte.
+   * @see #isByte(String)
+   */
+  default boolean isByte(@NotNull ConfigPath path) {
+    return isByte(ConfigPath.toPathString(path));
+  }
+
   /**
    * Gets the requested byte by path.
    *
@@ -58,6 +107,17 @@ public interface DataSection {
    */
   byte getByte(@NotNull String path);
 
+  /**
+   * Gets the requested byte by compiled path.
+   *
+   * @param path Compiled path of the byte to get.
+   * @return Requested byte.
+   * @see #getByte(String)
+   */
+  default byte getByte(@NotNull ConfigPath path) {
+    return getByte(ConfigPath.toPathString(path));
+  }
+
   /**
    * Gets the requested byte by path, returning the default value if not found.
    *
@@ -67,6 +127,18 @@ public interface DataSection {
    */
   byte getByte(@NotNull String path, byte def);
 
+  /**
+   * Gets the requested byte by compiled path, returning the default value if not found.
+   *
+   * @param path Compiled path of the byte to get.
+   * @param def  The default value to return if path does not exist or is not a byte.
+   * @return Requested byte.
+   * @see #getByte(String, byte)
+   */
+  default byte getByte(@NotNull ConfigPath path, byte def) {
+    return getByte(ConfigPath.toPathString(path), def);
+  }
+
   /**
    * Checks if the specified path is an int.
    *
@@ -77,6 +149,17 @@ public interface DataSection {
    */
   boolean isInt(@NotNull String path);
 
+  /**
+   * Checks if the specified compiled path is an int.
+   *
+   * @param path Compiled path of the int to check.
+   * @return Whether or not the specified path is an int.
+   * @see #isInt(String)
+   */
+  default boolean isInt(@NotNull ConfigPath path) {
+    return isInt(ConfigPath.toPathString(path));
+  }
+
   /**
    * Gets the requested int by path.
    *
@@ -87,6 +170,17 @@ public interface DataSection {
    */
   int getInt(@NotNull String path);
 
+  /**
+   * Gets the requested int by compiled path.
+   *
+   * @param path Compiled path of the int to get.
+   * @return Requested int.
+   * @see #getInt(String)
+   */
+  default int getInt(@NotNull ConfigPath path) {
+    return getInt(ConfigPath.toPathString(path));
+  }
+
   /**
    * Gets the requested int by path, returning the default value if not found.
    *
@@ -96,6 +190,18 @@ public interface DataSection {
    */
   int getInt(@NotNull String path, int def);
 
+  /**
+   * Gets the requested int by compiled path, returning the default value if not found.
+   *
+   * @param path Compiled path of the int to get.
+   * @param def  The default value to return if path does not exist or is not an int.
+   * @return Requested int.
+   * @see #getInt(String, int)
+   */
+  default int getInt(@NotNull ConfigPath path, int def) {
+    return getInt(ConfigPath.toPathString(path), def);
+  }
+
   /**
    * Checks if the specified path is a long.
    *
@@ -106,6 +212,17 @@ public interface DataSection {
    */
   boolean isLong(@NotNull String path);
 
+  /**
+   * Checks if the specified compiled path is a long.
+   *
+   * @param path Compiled path of the long to check.
+   * @return Whether or not the specified path is a long.
+   * @see #isLong(String)
+   */
+  default boolean isLong(@NotNull ConfigPath path) {
+    return isLong(ConfigPath.toPathString(path));
+  }
+
   /**
    * Gets the requested long by path.
    *
@@ -116,6 +233,17 @@ public interface DataSection {
    */
   long getLong(@NotNull String path);
 
+  /**
+   * Gets the requested long by compiled path.
+   *
+   * @param path Compiled path of the long to get.
+   * @return Requested long.
+   * @see #getLong(String)
+   */
+  default long getLong(@NotNull ConfigPath path) {
+    return getLong(ConfigPath.toPathString(path));
+  }
+
   /**
    * Gets the requested long by path, returning the default value if not found.
    *
@@ -125,6 +253,18 @@ public interface DataSection {
    */
   long getLong(@NotNull String path, long def);
 
+  /**
+   * Gets the requested long by compiled path, returning the default value if not found.
+   *
+   * @param path Compiled path of the long to get.
+   * @param def  The default value to return if path does not exist or is not a long.
+   * @return Requested long.
+   * @see #getLong(String, long)
+   */
+  default long getLong(@NotNull ConfigPath path, long def) {
+    return getLong(ConfigPath.toPathString(path), def);
+  }
+
   /**
    * Checks if the specified path is a double.
    *
@@ -135,6 +275,17 @@ public interface DataSection {
    */
   boolean isDouble(@NotNull String path);
 
+  /**
+   * Checks if the specified compiled path is a double.
+   *
+   * @param path Compiled path of the double to check.
+   * @return Whether or not the specified path is a double.
+   * @see #isDouble(String)
+   */
+  default boolean isDouble(@NotNull ConfigPath path) {
+    return isDouble(ConfigPath.toPathString(path));
+  }
+
   /**
    * Gets the requested double by path.
    *
@@ -145,6 +296,17 @@ public interface DataSection {
    */
   double getDouble(@NotNull String path);
 
+  /**
+   * Gets the requested double by compiled path.
+   *
+   * @param path Compiled path of the double to get.
+   * @return Requested double.
+   * @see #getDouble(String)
+   */
+  default double getDouble(@NotNull ConfigPath path) {
+    return getDouble(ConfigPath.toPathString(path));
+  }
+
   /**
    * Gets the requested double by path, returning the default value if not found.
    *
@@ -154,6 +316,18 @@ public interface DataSection {
    */
   double getDouble(@NotNull String path, double def);
 
+  /**
+   * Gets the requested double by compiled path, returning the default value if not found.
+   *
+   * @param path Compiled path of the double to get.
+   * @param def  The default value to return if path does not exist or is not a double.
+   * @return Requested double.
+   * @see #getDouble(String, double)
+   */
+  default double getDouble(@NotNull ConfigPath path, double def) {
+    return getDouble(ConfigPath.toPathString(path), def);
+  }
+
   /**
    * Checks if the specified path is a boolean.
    *
@@ -164,6 +338,17 @@ public interface DataSection {
    */
   boolean isBoolean(@NotNull String path);
 
+  /**
+   * Checks if the specified compiled path is a boolean.
+   *
+   * @param path Compiled path of the boolean to check.
+   * @return Whether or not the specified path is a boolean.
+   * @see #isBoolean(String)
+   */
+  default boolean isBoolean(@NotNull ConfigPath path) {
+    return isBoolean(ConfigPath.toPathString(path));
+  }
+
   /**
    * Gets the requested boolean by path.
    *
@@ -174,6 +359,17 @@ public interface DataSection {
    */
   boolean getBoolean(@NotNull String path);
 
+  /**
+   * Gets the requested boolean by compiled path.
+   *
+   * @param path Compiled path of the boolean to get.
+   * @return Requested boolean.
+   * @see #getBoolean(String)
+   */
+  default boolean getBoolean(@NotNull ConfigPath path) {
+    return getBoolean(ConfigPath.toPathString(path));
+  }
+
   /**
    * Gets the requested boolean by path, returning the default value if not found.
    *
@@ -183,6 +379,18 @@ public interface DataSection {
    */
   boolean getBoolean(@NotNull String path, boolean def);
 
+  /**
+   * Gets the requested boolean by compiled path, returning the default value if not found.
+   *
+   * @param path Compiled path of the boolean to get.
+   * @param def  The default value to return if path does not exist or is not a boolean.
+   * @return Requested boolean.
+   * @see #getBoolean(String, boolean)
+   */
+  default boolean getBoolean(@NotNull ConfigPath path, boolean def) {
+    return getBoolean(ConfigPath.toPathString(path), def);
+  }
+
   /**
    * Checks if the specified path is a char.
    *
@@ -193,6 +401,17 @@ public interface DataSection {
    */
   boolean isChar(@NotNull String path);
 
+  /**
+   * Checks if the specified compiled path is a char.
+   *
+   * @param path Compiled path of the char to check.
+   * @return Whether or not the specified path is a char.
+   * @see #isChar(String)
+   */
+  default boolean isChar(@NotNull ConfigPath path) {
+    return isChar(ConfigPath.toPathString(path));
+  }
+
   /**
    * Gets the requested char by path.
    *
@@ -203,6 +422,17 @@ public interface DataSection {
    */
   char getChar(@NotNull String path);
 
+  /**
+   * Gets the requested char by compiled path.
+   *
+   * @param path Compiled path of the char to get.
+   * @return Requested char.
+   * @see #getChar(String)
+   */
+  default char getChar(@NotNull ConfigPath path) {
+    return getChar(ConfigPath.toPathString(path));
+  }
+
   /**
    * Gets the requested char by path, returning the default value if not found.
    *
@@ -212,6 +442,18 @@ public interface DataSection {
    */
   char getChar(@NotNull String path, char def);
 
+  /**
+   * Gets the requested char by compiled path, returning the default value if not found.
+   *
+   * @param path Compiled path of the char to get.
+   * @param def  The default value to return if path does not exist or is not a char.
+   * @return Requested char.
+   * @see #getChar(String, char)
+   */
+  default char getChar(@NotNull ConfigPath path, char def) {
+    return getChar(ConfigPath.toPathString(path), def);
+  }
+
   /**
    * Checks if the specified path is a string.
    *
@@ -222,6 +464,17 @@ public interface DataSection {
    */
   boolean isString(@NotNull String path);
 
+  /**
+   * Checks if the specified compiled path is a string.
+   *
+   * @param path Compiled path of the string to check.
+   * @return Whether or not the specified path is a string.
+   * @see #isString(String)
+   */
+  default boolean isString(@NotNull ConfigPath path) {
+    return isString(ConfigPath.toPathString(path));
+  }
+
   /**
    * Gets the requested string by path.
    *
@@ -233,6 +486,17 @@ public interface DataSection {
    */
   @NotNull String getString(@NotNull String path);
 
+  /**
+   * Gets the requested string by compiled path.
+   *
+   * @param path Compiled path of the string to get.
+   * @return Requested string.
+   * @see #getString(String)
+   */
+  default @NotNull String getString(@NotNull ConfigPath path) {
+    return getString(ConfigPath.toPathString(path));
+  }
+
   /**
    * Gets the requested string by path, returning the default value if not found.
    *
@@ -242,6 +506,18 @@ public interface DataSection {
    */
   @NotNull String getString(@NotNull String path, String def);
 
+  /**
+   * Gets the requested string by compiled path, returning the default value if not found.
+   *
+   * @param path Compiled path of the double to get.
+   * @param def  The default value to return if path does not exist.
+   * @return Requested string.
+   * @see #getString(String, String)
+   */
+  default @NotNull String getString(@NotNull ConfigPath path, String def) {
+    return getString(ConfigPath.toPathString(path), def);
+  }
+
   /**
    * Checks if the specified path is a list.
    *
@@ -252,6 +528,17 @@ public interface DataSection {
    */
   boolean isList(@NotNull String path);
 
+  /**
+   * Checks if the specified compiled path is a list.
+   *
+   * @param path Compiled path of the list to check.
+   * @return Whether or not the specified path is a list.
+   * @see #isList(String)
+   */
+  default boolean isList(@NotNull ConfigPath path) {
+    return isList(ConfigPath.toPathString(path));
+  }
+
   /**
    * Gets the requested list by path.
    *
@@ -262,6 +549,17 @@ public interface DataSection {
    */
   @Nullable List<?> getList(@NotNull String path);
 
+  /**
+   * Gets the requested list by compiled path.
+   *
+   * @param path Compiled path of the list to get.
+   * @return Requested list.
+   * @see #getList(String)
+   */
+  default @Nullable List<?> getList(@NotNull ConfigPath path) {
+    return getList(ConfigPath.toPathString(path));
+  }
+
   /**
    * Gets the requested list by path, returning the default value if not found.
    *
@@ -271,6 +569,18 @@ public interface DataSection {
    */
   @Nullable List<?> getList(@NotNull String path, List<?> def);
 
+  /**
+   * Gets the requested list by compiled path, returning the default value if not found.
+   *
+   * @param path Compiled path of the list to get.
+   * @param def  The default value to return if path does not exist or is not a list.
+   * @return Requested list.
+   * @see #getList(String, List)
+   */
+  default @Nullable List<?> getList(@NotNull ConfigPath path, List<?> def) {
+    return getList(ConfigPath.toPathString(path), def);
+  }
+
   /**
    * Gets the requested list of string by path.
    *
@@ -284,6 +594,17 @@ public interface DataSection {
    */
   @NotNull List<String> getStringList(@NotNull String path);
 
+  /**
+   * Gets the requested list of string by compiled path.
+   *
+   * @param path Compiled path of the list to get.
+   * @return Requested list of string.
+   * @see #getStringList(String)
+   */
+  default @NotNull List<String> getStringList(@NotNull ConfigPath path) {
+    return getStringList(ConfigPath.toPathString(path));
+  }
+
   /**
    * Gets the requested list of byte by path.
    *
@@ -296,6 +617,17 @@ public interface DataSection {
    */
   @NotNull List<Byte> getByteList(@NotNull String path);
 
+  /**
+   * Gets the requested list of byte by compiled path.
+   *
+   * @param path Compiled path of the list to get.
+   * @return Requested list of byte.
+   * @see #getByteList(String)
+   */
+  default @NotNull List<Byte> getByteList(@NotNull ConfigPath path) {
+    return getByteList(ConfigPath.toPathString(path));
+  }
+
   /**
    * Gets the requested list of integer by path.
    *
@@ -308,6 +640,17 @@ public interface DataSection {
    */
   @NotNull List<Integer> getIntegerList(@NotNull String path);
 
+  /**
+   * Gets the requested list of integer by compiled path.
+   *
+   * @param path Compiled path of the list to get.
+   * @return Requested list of integer.
+   * @see #getIntegerList(String)
+   */
+  default @NotNull List<Integer> getIntegerList(@NotNull ConfigPath path) {
+    return getIntegerList(ConfigPath.toPathString(path));
+  }
+
   /**
    * Gets the requested list of long by path.
    *
@@ -320,6 +663,17 @@ public interface DataSection {
    */
   @NotNull List<Long> getLongList(@NotNull String path);
 
+  /**
+   * Gets the requested list of long by compiled path.
+   *
+   * @param path Compiled path of the list to get.
+   * @return Requested list of long.
+   * @see #getLongList(String)
+   */
+  default @NotNull List<Long> getLongList(@NotNull ConfigPath path) {
+    return getLongList(ConfigPath.toPathString(path));
+  }
+
   /**
    * Gets the requested list of float by path.
    *
@@ -332,6 +686,17 @@ public interface DataSection {
    */
   @NotNull List<Float> getFloatList(@NotNull String path);
 
+  /**
+   * Gets the requested list of float by compiled path.
+   *
+   * @param path Compiled path of the list to get.
+   * @return Requested list of float.
+   * @see #getFloatList(String)
+   */
+  default @NotNull List<Float> getFloatList(@NotNull ConfigPath path) {
+    return getFloatList(ConfigPath.toPathString(path));
+  }
+
   /**
    * Gets the requested list of double by path.
    *
@@ -344,6 +709,17 @@ public interface DataSection {
    */
   @NotNull List<Double> getDoubleList(@NotNull String path);
 
+  /**
+   * Gets the requested list of double by compiled path.
+   *
+   * @param path Compiled path of the list to get.
+   * @return Requested list of double.
+   * @see #getDoubleList(String)
+   */
+  default @NotNull List<Double> getDoubleList(@NotNull ConfigPath path) {
+    return getDoubleList(ConfigPath.toPathString(path));
+  }
+
   /**
    * Gets the requested list of boolean by path.
    *
@@ -356,6 +732,17 @@ public interface DataSection {
    */
   @NotNull List<Boolean> getBooleanList(@NotNull String path);
 
+  /**
+   * Gets the requested list of boolean by compiled path.
+   *
+   * @param path Compiled path of the list to get.
+   * @return Requested list of boolean.
+   * @see #getBooleanList(String)
+   */
+  default @NotNull List<Boolean> getBooleanList(@NotNull ConfigPath path) {
+    return getBooleanList(ConfigPath.toPathString(path));
+  }
+
   /**
    * Gets the requested list of character by path.
    *
@@ -367,4 +754,128 @@ public interface DataSection {
    * @return Requested list of character.
    */
   @NotNull List<Character> getCharacterList(@NotNull String path);
+
+  /**
+   * Gets the requested list of character by compiled path.
+   *
+   * @param path Compiled path of the list to get.
+   * @return Requested list of character.
+   * @see #getCharacterList(String)
+   */
+  default @NotNull List<Character> getCharacterList(@NotNull ConfigPath path) {
+    return getCharacterList(ConfigPath.toPathString(path));
+  }
+
+  /**
+   * Gets the requested array of int by path.
+   *
+   * <p>If the requested list does not exist or is not a list, this will return an empty array.
+   *
+   * <p><b>Notes: </b>Numeric values of the list are converted, other values are skipped. The
+   * array may be cached until the list is set again, so it is shared between calls and must not
+   * be modified. Modifying the list returned by {@link #getList(String)} does not update it.
+   *
+   * @param path Path of the list to get.
+   * @return Requested array of int.
+   */
+  default @NotNull int[] getIntArray(@NotNull String path) {
+    return getIntegerList(path).stream().mapToInt(Integer::intValue).toArray();
+  }
+
+  /**
+   * Gets the requested array of int by compiled path.
+   *
+   * @param path Compiled path of the list to get.
+   * @return Requested array of int.
+   * @see #getIntArray(String)
+   */
+  default @NotNull int[] getIntArray(@NotNull ConfigPath path) {
+    return getIntArray(ConfigPath.toPathString(path));
+  }
+
+  /**
+   * Gets the requested array of long by path.
+   *
+   * <p>If the requested list does not exist or is not a list, this will return an empty array.
+   *
+   * <p><b>Notes: </b>Numeric values of the list are converted, other values are skipped. The
+   * array may be cached until the list is set again, so it is shared between calls and must not
+   * be modified. Modifying the list returned by {@link #getList(String)} does not update it.
+   *
+   * @param path Path of the list to get.
+   * @return Requested array of long.
+   */
+  default @NotNull long[] getLongArray(@NotNull String path) {
+    return getLongList(path).stream().mapToLong(Long::longValue).toArray();
+  }
+
+  /**
+   * Gets the requested array of long by compiled path.
+   *
+   * @param path Compiled path of the list to get.
+   * @return Requested array of long.
+   * @see #getLongArray(String)
+   */
+  default @NotNull long[] getLongArray(@NotNull ConfigPath path) {
+    return getLongArray(ConfigPath.toPathString(path));
+  }
+
+  /**
+   * Gets the requested array of double by path.
+   *
+   * <p>If the requested list does not exist or is not a list, this will return an empty array.
+   *
+   * <p><b>Notes: </b>Numeric values of the list are converted, other values are skipped. The
+   * array may be cached until the list is set again, so it is shared between calls and must not
+   * be modified. Modifying the list returned by {@link #getList(String)} does not update it.
+   *
+   * @param path Path of the list to get.
+   * @return Requested array of double.
+   */
+  default @NotNull double[] getDoubleArray(@NotNull String path) {
+    return getDoubleList(path).stream().mapToDouble(Double::doubleValue).toArray();
+  }
+
+  /**
+   * Gets the requested array of double by compiled path.
+   *
+   * @param path Compiled path of the list to get.
+   * @return Requested array of double.
+   * @see #getDoubleArray(String)
+   */
+  default @NotNull double[] getDoubleArray(@NotNull ConfigPath path) {
+    return getDoubleArray(ConfigPath.toPathString(path));
+  }
+
+  /**
+   * Gets the requested array of boolean by path.
+   *
+   * <p>If the requested list does not exist or is not a list, this will return an empty array.
+   *
+   * <p><b>Notes: </b>Only the boolean values of the list are kept. The array may be cached until
+   * the list is set again, so it is shared between calls and must not be modified. Modifying the
+   * list returned by {@link #getList(String)} does not update it.
+   *
+   * @param path Path of the list to get.
+   * @return Requested array of boolean.
+   */
+  default @NotNull boolean[] getBooleanArray(@NotNull String path) {
+    List<Boolean> list = getBooleanList(path);
+    boolean[] array = new boolean[list.size()];
+    for (int i = 0; i < array.length; i++) {
+      array[i] = list.get(i);
+    }
+    return array;
+  }
+
+  /**
+   * Gets the requested array of boolean by compiled path.
+   *
+   * @param path Compiled path of the list to get.
+   * @return Requested array of boolean.
+   * @see #getBooleanArray(String)
+   */
+  default @NotNull boolean[] getBooleanArray(@NotNull ConfigPath path) {
+    return getBooleanArray(ConfigPath.toPathString(path));
+  }
 }
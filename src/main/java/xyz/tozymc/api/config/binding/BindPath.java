@@ -0,0 +1,29 @@
+package xyz.tozymc.api.config.binding;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotates a method of a bound interface to map it to a path.
+ *
+ * <p>Methods without this annotation are mapped to their name.
+ *
+ * @author TozyMC
+ * @since 1.0
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface BindPath {
+
+  /**
+   * The path of the value, relative to the bound section.
+   *
+   * <p>For example:
+   * <br> {@code @BindPath("limits.max-players") int maxPlayers();}
+   *
+   * @return Path of the value.
+   */
+  String value();
+}
@@ -0,0 +1,6 @@
+/**
+ * Classes dedicated to binding interfaces to the values of a configuration.
+ *
+ * @since 1.0
+ */
+package xyz.tozymc.api.config.binding;
@@ -0,0 +1,88 @@
+package xyz.tozymc.api.config.change;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import xyz.tozymc.api.config.ConfigPath;
+
+/**
+ * Represents a value that changed when a configuration was loaded.
+ *
+ * <p>Changes are only reported for values, never for sections. A section that was added or
+ * removed is reported as the changes of all its values.
+ *
+ * @author TozyMC
+ * @since 1.0
+ */
+public final class ConfigChange {
+
+  private final ConfigPath path;
+  private final Object oldValue;
+  private final Object newValue;
+
+  /**
+   * Constructs a new {@link ConfigChange}.
+   *
+   * @param path     Full path of the value.
+   * @param oldValue Value before loading, null if the value was added.
+   * @param newValue Value after loading, null if the value was removed.
+   */
+  public ConfigChange(@NotNull ConfigPath path, @Nullable Object oldValue,
+      @Nullable Object newValue) {
+    this.path = path;
+    this.oldValue = oldValue;
+    this.newValue = newValue;
+  }
+
+  /**
+   * Gets the full path of the changed value, from the root of the configuration.
+   *
+   * @return Path of the value.
+   */
+  @NotNull
+  public ConfigPath getPath() {
+    return path;
+  }
+
+  /**
+   * Gets the value before loading.
+   *
+   * @return Old value, or null if the value was added.
+   */
+  @Nullable
+  public Object getOldValue() {
+    return oldValue;
+  }
+
+  /**
+   * Gets the value after loading.
+   *
+   * @return New value, or null if the value was removed.
+   */
+  @Nullable
+  public Object getNewValue() {
+    return newValue;
+  }
+
+  /**
+   * Checks if the value did not exist before loading.
+   *
+   * @return Whether or not the value was added.
+   */
+  public boolean isAdded() {
+    return oldValue == null;
+  }
+
+  /**
+   * Checks if the value does not exist anymore after loading.
+   *
+   * @return Whether or not the value was removed.
+   */
+  public boolean isRemoved() {
+    return newValue == null;
+  }
+
+  @Override
+  public String toString() {
+    return "ConfigChange[path=" + path + ", oldValue=" + oldValue + ", newValue=" + newValue + "]";
+  }
+}
@@ -0,0 +1,23 @@
+package xyz.tozymc.api.config.change;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+/**
+ * Listener of the changes of a configuration under a path.
+ *
+ * @author TozyMC
+ * @see xyz.tozymc.api.config.file.FileConfiguration#onChange(String, ConfigChangeListener)
+ * @since 1.0
+ */
+@FunctionalInterface
+public interface ConfigChangeListener {
+
+  /**
+   * Called once per load when at least one value under the listened path changed.
+   *
+   * @param changes Unmodifiable list of the changed values.
+   */
+  void onChange(@NotNull List<ConfigChange> changes);
+}
@@ -0,0 +1,6 @@
+/**
+ * Classes dedicated to listening to the changes of a configuration.
+ *
+ * @since 1.0
+ */
+package xyz.tozymc.api.config.change;
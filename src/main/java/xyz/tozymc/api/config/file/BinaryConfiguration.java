@@ -0,0 +1,60 @@
+package xyz.tozymc.api.config.file;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * A {@link FileConfiguration} stored in a compact binary format.
+ *
+ * <p>The file contains a table of all keys and strings followed by the typed values of the
+ * section tree, so it is loaded without any text parsing. It is not meant to be edited by hand.
+ *
+ * @author TozyMC
+ * @since 1.0
+ */
+public class BinaryConfiguration extends FileConfiguration {
+
+  private static final byte[] NO_KEY = new byte[0];
+
+  public BinaryConfiguration(@NotNull File file) throws IOException {
+    super(file);
+  }
+
+  @Override
+  protected void read(@NotNull FileConfigSection section) throws IOException {
+    byte[] bytes = java.nio.file.Files.readAllBytes(getFile().toPath());
+    if (bytes.length == 0) {
+      return;
+    }
+    BinaryDocument document = BinaryDocument.open(ByteBuffer.wrap(bytes), null);
+    document.decodeInto(document.getRoot(), section);
+  }
+
+  @Override
+  protected void write() throws IOException {
+    write(this);
+  }
+
+  @Override
+  protected void write(@NotNull FileConfigSection section) throws IOException {
+    try (OutputStream out = newOutputStream()) {
+      BinarySectionCodec.write(out, section, NO_KEY);
+    } finally {
+      updateTimestamp();
+    }
+  }
+
+  @Override
+  protected boolean supportsBinaryCache() {
+    return false;
+  }
+
+  @Override
+  protected boolean supportsDetachedWrite() {
+    return true;
+  }
+}
@@ -0,0 +1,303 @@
+package xyz.tozymc.api.config.file;
+
+import xyz.tozymc.api.config.ConfigPath;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+
+import static xyz.tozymc.api.config.file.BinarySectionCodec.BIG_INTEGER;
+import static xyz.tozymc.api.config.file.BinarySectionCodec.BYTE;
+import static xyz.tozymc.api.config.file.BinarySectionCodec.BYTES;
+import static xyz.tozymc.api.config.file.BinarySectionCodec.CHAR;
+import static xyz.tozymc.api.config.file.BinarySectionCodec.DOUBLE;
+import static xyz.tozymc.api.config.file.BinarySectionCodec.FALSE;
+import static xyz.tozymc.api.config.file.BinarySectionCodec.FLOAT;
+import static xyz.tozymc.api.config.file.BinarySectionCodec.INT;
+import static xyz.tozymc.api.config.file.BinarySectionCodec.LIST;
+import static xyz.tozymc.api.config.file.BinarySectionCodec.LONG;
+import static xyz.tozymc.api.config.file.BinarySectionCodec.MAGIC;
+import static xyz.tozymc.api.config.file.BinarySectionCodec.MAP;
+import static xyz.tozymc.api.config.file.BinarySectionCodec.NULL;
+import static xyz.tozymc.api.config.file.BinarySectionCodec.SECTION;
+import static xyz.tozymc.api.config.file.BinarySectionCodec.SET;
+import static xyz.tozymc.api.config.file.BinarySectionCodec.SHORT;
+import static xyz.tozymc.api.config.file.BinarySectionCodec.STRING;
+import static xyz.tozymc.api.config.file.BinarySectionCodec.TRUE;
+import static xyz.tozymc.api.config.file.BinarySectionCodec.VERSION;
+
+/**
+ * Random access reader of a document written by {@link BinarySectionCodec}.
+ *
+ * <p>Sections and values are referred to by their offset in the buffer. Entries are found by a
+ * binary search over the sorted index of their section, comparing the encoded keys directly, so
+ * reading a value only decodes that value. The buffer is only read with absolute accessors, so a
+ * document can be read by multiple threads.
+ *
+ * @author TozyMC
+ * @see BinarySectionCodec
+ * @since 1.0
+ */
+final class BinaryDocument {
+
+  private final ByteBuffer buffer;
+  private final int stringOffsets, root;
+
+  private BinaryDocument(ByteBuffer buffer, int stringCount, int stringOffsets) {
+    this.buffer = buffer;
+    this.stringOffsets = stringOffsets;
+    this.root = buffer.getInt(stringOffsets + 4 * stringCount);
+  }
+
+  /**
+   * Opens the document in the specified buffer, if its key matches.
+   *
+   * @param buffer      Buffer containing the document, from position 0.
+   * @param expectedKey Expected key of the document, or null to accept any key.
+   * @return Opened document, or null if the key does not match.
+   * @throws IOException Thrown when the buffer does not contain a supported document.
+   */
+  static BinaryDocument open(ByteBuffer buffer, byte[] expectedKey) throws IOException {
+    try {
+      if (buffer.getInt(0) != MAGIC) {
+        throw new IOException("Not a binary configuration");
+      }
+      int version = buffer.getInt(4);
+      // Caches of older versions may hold values decoded with another type, they are rewritten
+      if (expectedKey != null ? version != VERSION : version < 2 || version > VERSION) {
+        throw new IOException("Unsupported binary configuration version " + version);
+      }
+      int keyLength = checkLength(buffer.getInt(8), buffer.limit() - 12);
+      byte[] key = new byte[keyLength];
+      for (int i = 0; i < keyLength; i++) {
+        key[i] = buffer.get(12 + i);
+      }
+      if (expectedKey != null && !Arrays.equals(key, expectedKey)) {
+        return null;
+      }
+
+      int stringCount = buffer.getInt(12 + keyLength);
+      return new BinaryDocument(buffer, stringCount, 16 + keyLength);
+    } catch (IndexOutOfBoundsException | IllegalStateException e) {
+      throw new IOException("Corrupted binary configuration", e);
+    }
+  }
+
+  int getRoot() {
+    return root;
+  }
+
+  String getString(int index) {
+    int start = checkLength(buffer.getInt(stringOffsets + 4 * index), buffer.limit());
+    int length = checkLength(buffer.getInt(stringOffsets + 4 * index + 4) - start,
+        buffer.limit() - start);
+    byte[] bytes = new byte[length];
+    for (int i = 0; i < length; i++) {
+      bytes[i] = buffer.get(start + i);
+    }
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  int getEntryCount(int section) {
+    return buffer.getInt(section);
+  }
+
+  String getEntryKey(int section, int entry) {
+    return getString(buffer.getInt(section + 4 + 8 * entry));
+  }
+
+  int getEntryValue(int section, int entry) {
+    return buffer.getInt(section + 8 + 8 * entry);
+  }
+
+  /**
+   * Finds the value of the entry with the specified key.
+   *
+   * @param section Offset of the section.
+   * @param key     UTF-8 encoded key.
+   * @return Offset of the value, or -1 if not found.
+   */
+  int find(int section, byte[] key) {
+    int count = buffer.getInt(section);
+    int sorted = section + 4 + 8 * count;
+    int low = 0, high = count - 1;
+    while (low <= high) {
+      int mid = (low + high) >>> 1;
+      int entry = buffer.getInt(sorted + 4 * mid);
+      int cmp = compareString(buffer.getInt(section + 4 + 8 * entry), key);
+      if (cmp < 0) {
+        low = mid + 1;
+      } else if (cmp > 0) {
+        high = mid - 1;
+      } else {
+        return getEntryValue(section, entry);
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Finds the value at the specified path, relative to the specified section.
+   *
+   * @param section Offset of the section.
+   * @param path    Path of the value, not empty.
+   * @return Offset of the value, or -1 if not found.
+   */
+  int find(int section, ConfigPath path) {
+    int current = section;
+    for (int i = 0; i < path.length(); i++) {
+      if (i > 0) {
+        if (getType(current) != SECTION) {
+          return -1;
+        }
+        current++;
+      }
+      current = find(current, path.segment(i).getBytes(StandardCharsets.UTF_8));
+      if (current == -1) {
+        return -1;
+      }
+    }
+    return current;
+  }
+
+  private int compareString(int index, byte[] key) {
+    int start = buffer.getInt(stringOffsets + 4 * index);
+    int length = buffer.getInt(stringOffsets + 4 * index + 4) - start;
+    int common = Math.min(length, key.length);
+    for (int i = 0; i < common; i++) {
+      int diff = (buffer.get(start + i) & 0xFF) - (key[i] & 0xFF);
+      if (diff != 0) {
+        return diff;
+      }
+    }
+    return length - key.length;
+  }
+
+  byte getType(int value) {
+    return buffer.get(value);
+  }
+
+  /**
+   * Decodes the value at the specified offset. Sections are decoded as maps.
+   *
+   * @param value Offset of the value.
+   * @return Decoded value.
+   */
+  Object decode(int value) {
+    ByteBuffer in = buffer.duplicate();
+    in.position(value);
+    return readValue(in);
+  }
+
+  /**
+   * Decodes all entries of the specified section into a {@link FileConfigSection}.
+   *
+   * @param section Offset of the section.
+   * @param target  Section to decode into.
+   * @throws IOException Thrown when the document is corrupted.
+   */
+  void decodeInto(int section, FileConfigSection target) throws IOException {
+    try {
+      decodeSection(section, target);
+    } catch (IndexOutOfBoundsException | BufferUnderflowException | IllegalArgumentException
+        | IllegalStateException e) {
+      throw new IOException("Corrupted binary configuration", e);
+    }
+  }
+
+  private void decodeSection(int section, FileConfigSection target) {
+    int count = getEntryCount(section);
+    for (int i = 0; i < count; i++) {
+      ConfigPath key = ConfigPath.ofSegments(getEntryKey(section, i));
+      int value = getEntryValue(section, i);
+      if (getType(value) == SECTION && target.isLazyLoad()) {
+        target.setLazy0(key, decode(value));
+      } else if (getType(value) == SECTION) {
+        decodeSection(value + 1, target.createSection0(key));
+      } else {
+        target.set0(key, decode(value));
+      }
+    }
+  }
+
+  private Object readValue(ByteBuffer in) {
+    byte type = in.get();
+    switch (type) {
+      case NULL:
+        return null;
+      case STRING:
+        return getString(in.getInt());
+      case TRUE:
+        return true;
+      case FALSE:
+        return false;
+      case INT:
+        return in.getInt();
+      case LONG:
+        return in.getLong();
+      case DOUBLE:
+        return in.getDouble();
+      case FLOAT:
+        return in.getFloat();
+      case SHORT:
+        return (short) in.getInt();
+      case BYTE:
+        return in.get();
+      case CHAR:
+        return (char) in.getInt();
+      case BIG_INTEGER:
+        byte[] bytes = new byte[checkLength(in.getInt(), in.remaining())];
+        in.get(bytes);
+        return new BigInteger(bytes);
+      case BYTES:
+        byte[] array = new byte[checkLength(in.getInt(), in.remaining())];
+        in.get(array);
+        return array;
+      case SECTION:
+        int entries = checkLength(in.getInt(), in.remaining() / 12);
+        int table = in.position();
+        // Values follow the entry table and the sorted index, in entry order
+        in.position(table + 12 * entries);
+        Map<Object, Object> section = new LinkedHashMap<>();
+        for (int i = 0; i < entries; i++) {
+          section.put(getString(in.getInt(table + 8 * i)), readValue(in));
+        }
+        return section;
+      case MAP:
+        // Each key and value takes at least one byte
+        int mapSize = checkLength(in.getInt(), in.remaining() / 2);
+        Map<Object, Object> map = new LinkedHashMap<>();
+        for (int i = 0; i < mapSize; i++) {
+          map.put(readValue(in), readValue(in));
+        }
+        return map;
+      case LIST:
+      case SET:
+        int size = checkLength(in.getInt(), in.remaining());
+        Collection<Object> collection = type == LIST ? new ArrayList<>(size)
+            : new LinkedHashSet<>(size * 4 / 3 + 1);
+        for (int i = 0; i < size; i++) {
+          collection.add(readValue(in));
+        }
+        return collection;
+      default:
+        throw new IllegalStateException("Unknown value type " + type);
+    }
+  }
+
+  // Lengths are read from the document, so they are checked before allocating anything
+  private static int checkLength(int length, int available) {
+    if (length < 0 || length > available) {
+      throw new IllegalStateException("Invalid length " + length);
+    }
+    return length;
+  }
+}
@@ -0,0 +1,267 @@
+package xyz.tozymc.api.config.file;
+
+import xyz.tozymc.api.config.exception.ConfigurationException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Writer of the compact, indexed binary encoding of a section tree.
+ *
+ * <p>A document starts with the magic bytes {@code TCFG}, the format version and a key, which is
+ * empty for {@link BinaryConfiguration} and the content hash of the source file for the binary
+ * cache. It is followed by a table of all keys and strings, each stored once, and by the root
+ * section.
+ *
+ * <p>A section stores the number of its entries, a table of the key index and value offset of each
+ * entry in insertion order, the entry indexes sorted by key, and then the values. Each value is
+ * prefixed with a type byte, and strings are stored as indexes into the table. Since all offsets
+ * are absolute and fixed width, a single value can be found and decoded without reading the rest
+ * of the document, see {@link BinaryDocument}.
+ *
+ * @author TozyMC
+ * @see BinaryDocument
+ * @since 1.0
+ */
+final class BinarySectionCodec {
+
+  static final int MAGIC = 0x54434647;
+  static final int VERSION = 3;
+
+  static final byte NULL = 0, SECTION = 1, MAP = 2, LIST = 3, STRING = 4, TRUE = 5, FALSE = 6,
+      INT = 7, LONG = 8, DOUBLE = 9, FLOAT = 10, SHORT = 11, BYTE = 12, CHAR = 13,
+      BIG_INTEGER = 14, SET = 15, BYTES = 16;
+
+  private final Map<String, Integer> stringIndexes = new HashMap<>();
+  private final List<byte[]> strings = new ArrayList<>();
+  private byte[] buffer = new byte[8192];
+  private int position;
+
+  private BinarySectionCodec() {
+  }
+
+  /**
+   * Writes the specified section as a document.
+   *
+   * @param out     Stream to write into.
+   * @param section Section to write.
+   * @param key     Key of the document.
+   * @throws IOException            Thrown when the document cannot be written.
+   * @throws ConfigurationException Thrown when a value has no binary encoding.
+   */
+  static void write(OutputStream out, FileConfigSection section, byte[] key) throws IOException {
+    BinarySectionCodec codec = new BinarySectionCodec();
+    codec.collectStrings(section);
+
+    codec.putInt(MAGIC);
+    codec.putInt(VERSION);
+    codec.putInt(key.length);
+    codec.putBytes(key);
+    int count = codec.strings.size();
+    codec.putInt(count);
+    int offsets = codec.reserve(4 * (count + 1));
+    for (int i = 0; i < count; i++) {
+      codec.setInt(offsets + 4 * i, codec.position);
+      codec.putBytes(codec.strings.get(i));
+    }
+    // The end of the last string is the start of the root section
+    codec.setInt(offsets + 4 * count, codec.position);
+    codec.writeSection(section.values);
+
+    out.write(codec.buffer, 0, codec.position);
+    out.flush();
+  }
+
+  // Same order as the lookups of BinaryDocument, unsigned bytes of the UTF-8 encoding
+  private static int compareBytes(byte[] a, byte[] b) {
+    int length = Math.min(a.length, b.length);
+    for (int i = 0; i < length; i++) {
+      int diff = (a[i] & 0xFF) - (b[i] & 0xFF);
+      if (diff != 0) {
+        return diff;
+      }
+    }
+    return a.length - b.length;
+  }
+
+  private void collectStrings(FileConfigSection section) {
+    section.values.forEach((key, val) -> {
+      addString(key);
+      collectStrings(val);
+    });
+  }
+
+  private void collectStrings(Object value) {
+    if (value instanceof String) {
+      addString((String) value);
+    } else if (value instanceof FileConfigSection) {
+      collectStrings((FileConfigSection) value);
+    } else if (value instanceof Map) {
+      ((Map<?, ?>) value).forEach((key, val) -> {
+        collectStrings(key);
+        collectStrings(val);
+      });
+    } else if (value instanceof Collection) {
+      ((Collection<?>) value).forEach(this::collectStrings);
+    } else if (value instanceof Object[]) {
+      for (Object element : (Object[]) value) {
+        collectStrings(element);
+      }
+    }
+  }
+
+  private void addString(String string) {
+    if (!stringIndexes.containsKey(string)) {
+      stringIndexes.put(string, strings.size());
+      strings.add(string.getBytes(StandardCharsets.UTF_8));
+    }
+  }
+
+  // Unmaterialized maps of a lazily loaded section are written as the sections they stand for
+  private void writeSection(Map<String, ?> values) {
+    int count = values.size();
+    putInt(count);
+    int table = reserve(8 * count);
+    int sorted = reserve(4 * count);
+
+    Integer[] order = new Integer[count];
+    int[] keys = new int[count];
+    int i = 0;
+    for (Map.Entry<String, ?> entry : values.entrySet()) {
+      keys[i] = stringIndexes.get(entry.getKey());
+      order[i] = i;
+      setInt(table + 8 * i, keys[i]);
+      setInt(table + 8 * i + 4, position);
+      Object value = entry.getValue();
+      if (value instanceof Map) {
+        putByte(SECTION);
+        writeSection(unmaterialized(value));
+      } else {
+        writeValue(value);
+      }
+      i++;
+    }
+
+    Arrays.sort(order, (a, b) -> compareBytes(strings.get(keys[a]), strings.get(keys[b])));
+    for (int j = 0; j < count; j++) {
+      setInt(sorted + 4 * j, order[j]);
+    }
+  }
+
+  // Maps kept by FileConfigSection#setLazy0 always have string keys
+  @SuppressWarnings("unchecked")
+  private static Map<String, ?> unmaterialized(Object value) {
+    return (Map<String, ?>) value;
+  }
+
+  private void writeValue(Object value) {
+    if (value == null) {
+      putByte(NULL);
+    } else if (value instanceof String) {
+      putByte(STRING);
+      putInt(stringIndexes.get(value));
+    } else if (value instanceof Boolean) {
+      putByte((Boolean) value ? TRUE : FALSE);
+    } else if (value instanceof Integer) {
+      putByte(INT);
+      putInt((Integer) value);
+    } else if (value instanceof Long) {
+      putByte(LONG);
+      putLong((Long) value);
+    } else if (value instanceof Double) {
+      putByte(DOUBLE);
+      putLong(Double.doubleToRawLongBits((Double) value));
+    } else if (value instanceof Float) {
+      putByte(FLOAT);
+      putInt(Float.floatToRawIntBits((Float) value));
+    } else if (value instanceof Short) {
+      putByte(SHORT);
+      putInt((Short) value);
+    } else if (value instanceof Byte) {
+      putByte(BYTE);
+      putByte((Byte) value);
+    } else if (value instanceof Character) {
+      putByte(CHAR);
+      putInt((Character) value);
+    } else if (value instanceof BigInteger) {
+      putByte(BIG_INTEGER);
+      byte[] bytes = ((BigInteger) value).toByteArray();
+      putInt(bytes.length);
+      putBytes(bytes);
+    } else if (value instanceof FileConfigSection) {
+      putByte(SECTION);
+      writeSection(((FileConfigSection) value).values);
+    } else if (value instanceof Map) {
+      putByte(MAP);
+      Map<?, ?> map = (Map<?, ?>) value;
+      putInt(map.size());
+      map.forEach((key, val) -> {
+        writeValue(key);
+        writeValue(val);
+      });
+    } else if (value instanceof List || value instanceof Set) {
+      // Other collections and arrays would not be decoded with the same type
+      putByte(value instanceof List ? LIST : SET);
+      Collection<?> collection = (Collection<?>) value;
+      putInt(collection.size());
+      collection.forEach(this::writeValue);
+    } else if (value instanceof byte[]) {
+      putByte(BYTES);
+      byte[] bytes = (byte[]) value;
+      putInt(bytes.length);
+      putBytes(bytes);
+    } else {
+      throw new ConfigurationException(
+          "Value of type " + value.getClass().getName() + " has no binary encoding");
+    }
+  }
+
+  private int reserve(int length) {
+    ensureCapacity(length);
+    int start = position;
+    position += length;
+    return start;
+  }
+
+  private void ensureCapacity(int length) {
+    if (position + length > buffer.length) {
+      buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + length));
+    }
+  }
+
+  private void putByte(int value) {
+    ensureCapacity(1);
+    buffer[position++] = (byte) value;
+  }
+
+  private void putBytes(byte[] bytes) {
+    ensureCapacity(bytes.length);
+    System.arraycopy(bytes, 0, buffer, position, bytes.length);
+    position += bytes.length;
+  }
+
+  private void putInt(int value) {
+    setInt(reserve(4), value);
+  }
+
+  private void putLong(long value) {
+    putInt((int) (value >>> 32));
+    putInt((int) value);
+  }
+
+  private void setInt(int index, int value) {
+    buffer[index] = (byte) (value >>> 24);
+    buffer[index + 1] = (byte) (value >>> 16);
+    buffer[index + 2] = (byte) (value >>> 8);
+    buffer[index + 3] = (byte) value;
+  }
+}
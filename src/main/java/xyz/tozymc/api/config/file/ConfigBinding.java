@@ -0,0 +1,334 @@
+package xyz.tozymc.api.config.file;
+
+import xyz.tozymc.api.config.ConfigPath;
+import xyz.tozymc.api.config.ConfigSection;
+import xyz.tozymc.api.config.binding.BindPath;
+import xyz.tozymc.api.config.exception.ConfigurationException;
+import xyz.tozymc.api.config.serialization.handler.ConfigurationSerializers;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Proxy;
+import java.lang.reflect.Type;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Handler of the proxies created by {@link FileConfigSection#bind(Class)}.
+ *
+ * <p>The values of all methods are read at once into an array, which is read again only when the
+ * version of the configuration changed. The values are shared by all callers, so lists, sets and
+ * maps are unmodifiable, and arrays are copied on each call.
+ *
+ * <p>Default methods are not bound, they are called on the proxy as declared.
+ *
+ * <p>Nested interfaces are bound when the binding is created, so an interface referring to itself,
+ * directly or through other interfaces, is rejected at that time.
+ *
+ * @author TozyMC
+ * @since 1.0
+ */
+final class ConfigBinding implements InvocationHandler {
+
+  private final FileConfiguration root;
+  private final Class<?> type;
+  private final ConfigPath path;
+  private final Map<Method, Integer> indexes = new HashMap<>();
+  private final Map<Method, MethodHandle> defaultMethods = new HashMap<>();
+  private final Function<FileConfiguration, Object>[] readers;
+  private volatile State state = new State(-1, null);
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private ConfigBinding(FileConfiguration root, Class<?> type, ConfigPath path,
+      Set<Class<?>> enclosing) {
+    this.root = root;
+    this.type = type;
+    this.path = path;
+
+    Method[] methods = type.getMethods();
+    this.readers = new Function[methods.length];
+    int size = 0;
+    for (Method method : methods) {
+      if (method.getDeclaringClass() == Object.class || Modifier.isStatic(method.getModifiers())) {
+        continue;
+      }
+      if (method.isDefault()) {
+        defaultMethods.put(method, findDefaultMethod(method));
+        continue;
+      }
+      if (method.getParameterCount() != 0) {
+        throw new ConfigurationException(
+            "Bound method " + method.getName() + " cannot have parameters");
+      }
+      BindPath bindPath = method.getAnnotation(BindPath.class);
+      ConfigPath methodPath = resolve(bindPath != null ? bindPath.value() : method.getName());
+      readers[size] = createReader(method, methodPath, enclosing);
+      indexes.put(method, size++);
+    }
+  }
+
+  static <T> T bind(FileConfiguration root, Class<T> type, ConfigPath path) {
+    return bind(root, type, path, new HashSet<>());
+  }
+
+  private static <T> T bind(FileConfiguration root, Class<T> type, ConfigPath path,
+      Set<Class<?>> enclosing) {
+    if (!enclosing.add(type)) {
+      throw new ConfigurationException(
+          "Bound interface " + type.getName() + " cannot refer to itself");
+    }
+    try {
+      return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+          new ConfigBinding(root, type, path, enclosing)));
+    } finally {
+      enclosing.remove(type);
+    }
+  }
+
+  private ConfigPath resolve(String relativePath) {
+    ConfigPath relative = root.compilePath(relativePath);
+    String[] segments = new String[path.length() + relative.length()];
+    for (int i = 0; i < path.length(); i++) {
+      segments[i] = path.segment(i);
+    }
+    for (int i = 0; i < relative.length(); i++) {
+      segments[path.length() + i] = relative.segment(i);
+    }
+    return ConfigPath.ofSegments(segments);
+  }
+
+  // The enclosing interfaces are the ones being bound from the root binding to this one
+  private Function<FileConfiguration, Object> createReader(Method method, ConfigPath path,
+      Set<Class<?>> enclosing) {
+    Class<?> returnType = method.getReturnType();
+    if (returnType == int.class || returnType == Integer.class) {
+      return config -> config.getInt(path);
+    }
+    if (returnType == long.class || returnType == Long.class) {
+      return config -> config.getLong(path);
+    }
+    if (returnType == double.class || returnType == Double.class) {
+      return config -> config.getDouble(path);
+    }
+    if (returnType == char.class || returnType == Character.class) {
+      return config -> config.getChar(path);
+    }
+    if (returnType == byte.class || returnType == Byte.class) {
+      return config -> config.getByte(path);
+    }
+    if (returnType == boolean.class || returnType == Boolean.class) {
+      return config -> config.getBoolean(path);
+    }
+    if (returnType == String.class) {
+      return config -> config.getString(path);
+    }
+    if (returnType == List.class || returnType == Collection.class) {
+      return createListReader(method.getGenericReturnType(), path);
+    }
+    if (returnType == Set.class) {
+      Function<FileConfiguration, Object> reader = createListReader(
+          method.getGenericReturnType(), path);
+      return config -> {
+        Object list = reader.apply(config);
+        return list != null ? new LinkedHashSet<>((List<?>) list) : null;
+      };
+    }
+    if (returnType == Map.class) {
+      return config -> {
+        ConfigSection section = config.getSection(path);
+        if (section != null) {
+          return toMap(section);
+        }
+        Object val = config.getObject(path);
+        return val instanceof Map ? val : null;
+      };
+    }
+    if (returnType == int[].class) {
+      return config -> config.getIntArray(path);
+    }
+    if (returnType == long[].class) {
+      return config -> config.getLongArray(path);
+    }
+    if (returnType == double[].class) {
+      return config -> config.getDoubleArray(path);
+    }
+    if (returnType == boolean[].class) {
+      return config -> config.getBooleanArray(path);
+    }
+    if (returnType == ConfigSection.class) {
+      return config -> config.getSection(path);
+    }
+    if (ConfigurationSerializers.isSerializableClass(returnType)) {
+      return config -> config.getSerializable(path, returnType);
+    }
+    if (returnType.isInterface() && !returnType.getName().startsWith("java.")) {
+      Object nested = bind(root, returnType, path, enclosing);
+      return config -> nested;
+    }
+    if (returnType.isPrimitive()) {
+      throw new ConfigurationException(
+          "Bound method " + method.getName() + " has unsupported return type " + returnType);
+    }
+    return config -> {
+      Object val = config.getObject(path);
+      return returnType.isInstance(val) ? val : null;
+    };
+  }
+
+  private Function<FileConfiguration, Object> createListReader(Type type, ConfigPath path) {
+    Type element = type instanceof ParameterizedType
+        ? ((ParameterizedType) type).getActualTypeArguments()[0] : Object.class;
+    if (element == String.class) {
+      return config -> config.getStringList(path);
+    }
+    if (element == Integer.class) {
+      return config -> config.getIntegerList(path);
+    }
+    if (element == Long.class) {
+      return config -> config.getLongList(path);
+    }
+    if (element == Double.class) {
+      return config -> config.getDoubleList(path);
+    }
+    if (element == Float.class) {
+      return config -> config.getFloatList(path);
+    }
+    if (element == Boolean.class) {
+      return config -> config.getBooleanList(path);
+    }
+    if (element == Byte.class) {
+      return config -> config.getByteList(path);
+    }
+    if (element == Character.class) {
+      return config -> config.getCharacterList(path);
+    }
+    return config -> config.getList(path);
+  }
+
+  private static Map<String, Object> toMap(ConfigSection section) {
+    Map<String, Object> map = new LinkedHashMap<>();
+    section.toFlatMap(false).forEach((key, val) -> map.put(key,
+        val instanceof ConfigSection ? toMap((ConfigSection) val) : val));
+    return map;
+  }
+
+  // Default methods are called on the proxy through a lookup private to their interface
+  private static MethodHandle findDefaultMethod(Method method) {
+    Class<?> declaring = method.getDeclaringClass();
+    try {
+      MethodHandles.Lookup lookup;
+      try {
+        Method privateLookupIn = MethodHandles.class.getMethod("privateLookupIn", Class.class,
+            MethodHandles.Lookup.class);
+        lookup = (MethodHandles.Lookup) privateLookupIn.invoke(null, declaring,
+            MethodHandles.lookup());
+      } catch (NoSuchMethodException e) {
+        // Java 8 has no privateLookupIn, its private constructor has full access
+        Constructor<MethodHandles.Lookup> constructor =
+            MethodHandles.Lookup.class.getDeclaredConstructor(Class.class);
+        constructor.setAccessible(true);
+        lookup = constructor.newInstance(declaring);
+      }
+      return lookup.unreflectSpecial(method, declaring);
+    } catch (ReflectiveOperationException | RuntimeException e) {
+      throw new ConfigurationException("Cannot call default method " + method.getName(), e);
+    }
+  }
+
+  @Override
+  public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+    Integer index = indexes.get(method);
+    if (index == null) {
+      MethodHandle defaultMethod = defaultMethods.get(method);
+      if (defaultMethod != null) {
+        return defaultMethod.bindTo(proxy).invokeWithArguments(args != null ? args : new Object[0]);
+      }
+      return invokeObjectMethod(proxy, method, args);
+    }
+
+    root.reload0();
+    State current = state;
+    long version = root.getVersion();
+    if (current.version != version) {
+      current = refresh(version);
+    }
+    Object val = current.values[index];
+    return val != null && val.getClass().isArray() ? copyArray(val) : val;
+  }
+
+  private State refresh(long version) {
+    Object[] values = new Object[indexes.size()];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = unmodifiable(readers[i].apply(root));
+    }
+    State current = new State(version, values);
+    state = current;
+    return current;
+  }
+
+  private static Object unmodifiable(Object val) {
+    if (val instanceof List) {
+      return Collections.unmodifiableList((List<?>) val);
+    }
+    if (val instanceof Set) {
+      return Collections.unmodifiableSet((Set<?>) val);
+    }
+    if (val instanceof Map) {
+      return Collections.unmodifiableMap((Map<?, ?>) val);
+    }
+    return val;
+  }
+
+  private static Object copyArray(Object array) {
+    if (array instanceof int[]) {
+      return ((int[]) array).clone();
+    }
+    if (array instanceof long[]) {
+      return ((long[]) array).clone();
+    }
+    if (array instanceof double[]) {
+      return ((double[]) array).clone();
+    }
+    if (array instanceof boolean[]) {
+      return ((boolean[]) array).clone();
+    }
+    return ((Object[]) array).clone();
+  }
+
+  private Object invokeObjectMethod(Object proxy, Method method, Object[] args) {
+    switch (method.getName()) {
+      case "equals":
+        return proxy == args[0];
+      case "hashCode":
+        return System.identityHashCode(proxy);
+      case "toString":
+        return type.getSimpleName() + "[path=" + path + ", root=" + root + "]";
+      default:
+        throw new UnsupportedOperationException(method.getName());
+    }
+  }
+
+  private static final class State {
+
+    private final long version;
+    private final Object[] values;
+
+    private State(long version, Object[] values) {
+      this.version = version;
+      this.values = values;
+    }
+  }
+}
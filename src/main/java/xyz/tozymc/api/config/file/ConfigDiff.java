@@ -0,0 +1,86 @@
+package xyz.tozymc.api.config.file;
+
+import xyz.tozymc.api.config.ConfigPath;
+import xyz.tozymc.api.config.change.ConfigChange;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Structural diff between the values of two section trees.
+ *
+ * <p>Both trees are walked side by side, sections are only descended into, and values are compared
+ * with {@link Objects#equals(Object, Object)}. Values of a section that only exists in one of the
+ * trees are reported as added or removed.
+ *
+ * @author TozyMC
+ * @since 1.0
+ */
+final class ConfigDiff {
+
+  private final List<ConfigChange> changes = new ArrayList<>();
+  private final List<String> segments = new ArrayList<>();
+
+  private ConfigDiff() {
+  }
+
+  /**
+   * Computes the changes between the values of the specified sections.
+   *
+   * @param oldSection Section before loading.
+   * @param newSection Section after loading.
+   * @return Changed values, new values first in their order, then removed values.
+   */
+  static List<ConfigChange> diff(FileConfigSection oldSection, FileConfigSection newSection) {
+    ConfigDiff diff = new ConfigDiff();
+    diff.compare(oldSection.values, newSection.values);
+    return diff.changes.isEmpty() ? Collections.emptyList() : diff.changes;
+  }
+
+  private void compare(Map<?, ?> oldValues, Map<?, ?> newValues) {
+    newValues.forEach((key, newVal) -> {
+      segments.add(String.valueOf(key));
+      compareValue(oldValues.get(key), newVal);
+      segments.remove(segments.size() - 1);
+    });
+    oldValues.forEach((key, oldVal) -> {
+      if (newValues.containsKey(key)) {
+        return;
+      }
+      segments.add(String.valueOf(key));
+      compareValue(oldVal, null);
+      segments.remove(segments.size() - 1);
+    });
+  }
+
+  private void compareValue(Object oldVal, Object newVal) {
+    Map<?, ?> oldSection = sectionValues(oldVal);
+    Map<?, ?> newSection = sectionValues(newVal);
+    if (oldSection != null && newSection != null) {
+      compare(oldSection, newSection);
+      return;
+    }
+    if (oldSection != null) {
+      compare(oldSection, Collections.emptyMap());
+      oldVal = null;
+    } else if (newSection != null) {
+      compare(Collections.emptyMap(), newSection);
+      newVal = null;
+    }
+    if (!Objects.equals(oldVal, newVal)) {
+      changes.add(new ConfigChange(ConfigPath.ofSegments(segments.toArray(new String[0])),
+          oldVal, newVal));
+    }
+  }
+
+  // Maps are only values of a section when it was lazily loaded, they stand for sections
+  private static Map<?, ?> sectionValues(Object val) {
+    if (val instanceof FileConfigSection) {
+      return ((FileConfigSection) val).values;
+    }
+    return val instanceof Map ? (Map<?, ?>) val : null;
+  }
+}
@@ -0,0 +1,27 @@
+package xyz.tozymc.api.config.file;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Creates the {@link FileConfiguration}s loaded by a {@link ConfigurationLoader}, usually a
+ * constructor reference such as {@code YamlConfiguration::new}.
+ *
+ * @param <T> Type of configuration.
+ * @author TozyMC
+ * @since 1.0
+ */
+@FunctionalInterface
+public interface ConfigurationFactory<T extends FileConfiguration> {
+
+  /**
+   * Creates a new, not yet loaded configuration of the specified file.
+   *
+   * @param file File of the configuration.
+   * @return New configuration.
+   * @throws IOException Thrown when the configuration cannot be created.
+   */
+  @NotNull T create(@NotNull File file) throws IOException;
+}
@@ -0,0 +1,215 @@
+package xyz.tozymc.api.config.file;
+
+import org.jetbrains.annotations.NotNull;
+import xyz.tozymc.api.config.exception.ConfigurationException;
+import xyz.tozymc.api.util.Preconditions;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Loads many {@link FileConfiguration}s of a directory in parallel.
+ *
+ * <p>Each file is created and loaded by its own task on the executor of this loader, the common
+ * {@link ForkJoinPool} by default, so loading a directory scales with the number of cores instead
+ * of parsing the files one by one.
+ *
+ * <p>For example, to load all arenas of a plugin:
+ * <pre>Map&lt;File, YamlConfiguration&gt; arenas =
+ *     new ConfigurationLoader&lt;&gt;(YamlConfiguration::new)
+ *     .configure(config -&gt; config.getSetting().lazySections(true))
+ *     .loadAll(new File(dataFolder, "arenas"), "**.yml");</pre>
+ *
+ * @param <T> Type of configuration.
+ * @author TozyMC
+ * @since 1.0
+ */
+public class ConfigurationLoader<T extends FileConfiguration> {
+
+  private final ConfigurationFactory<? extends T> factory;
+  private Executor executor = ForkJoinPool.commonPool();
+  private Consumer<? super T> configurer = config -> {};
+
+  /**
+   * Constructs a new {@link ConfigurationLoader} creating configurations with the specified
+   * factory.
+   *
+   * @param factory Factory of the configurations, such as {@code YamlConfiguration::new}.
+   * @throws IllegalArgumentException Thrown when factory is null.
+   */
+  public ConfigurationLoader(@NotNull ConfigurationFactory<? extends T> factory) {
+    this.factory = Preconditions.checkNotNull(factory, "Factory cannot be null");
+  }
+
+  /**
+   * Sets the {@link Executor} loading the configurations, default is the common {@link
+   * ForkJoinPool}.
+   *
+   * <p><b>Notes: </b>Reading files blocks the threads of the executor, a dedicated executor may be
+   * faster for files on slow storage.
+   *
+   * @param executor Executor loading the configurations.
+   * @return This object, for chaining.
+   * @throws IllegalArgumentException Thrown when executor is null.
+   */
+  public ConfigurationLoader<T> executor(@NotNull Executor executor) {
+    this.executor = Preconditions.checkNotNull(executor, "Executor cannot be null");
+    return this;
+  }
+
+  /**
+   * Sets the action configuring each created configuration before it is loaded, for example to
+   * change its {@link xyz.tozymc.api.config.file.setting.FileConfigSetting}.
+   *
+   * <p><b>Notes: </b>The action is called by the threads of the executor.
+   *
+   * @param configurer Action configuring the configurations.
+   * @return This object, for chaining.
+   * @throws IllegalArgumentException Thrown when configurer is null.
+   */
+  public ConfigurationLoader<T> configure(@NotNull Consumer<? super T> configurer) {
+    this.configurer = Preconditions.checkNotNull(configurer, "Configurer cannot be null");
+    return this;
+  }
+
+  /**
+   * Lists the files of the specified directory and its sub directories matching the specified
+   * glob, sorted by path.
+   *
+   * <p>The glob is matched against the path of the file relative to the directory, for example
+   * {@code *.yml} only matches the files of the directory, while {@code **.yml} also matches the
+   * files of its sub directories.
+   *
+   * @param directory Directory to list.
+   * @param glob      Glob of the files, see {@link FileSystem#getPathMatcher(String)}.
+   * @return Matching files.
+   * @throws IllegalArgumentException Thrown when directory or glob is null, or directory is not a
+   *                                  directory.
+   * @throws ConfigurationException   Thrown when the directory cannot be listed.
+   */
+  @NotNull
+  public List<File> listFiles(@NotNull File directory, @NotNull String glob) {
+    Preconditions.checkNotNull(directory, "Directory cannot be null");
+    Preconditions.checkNotNull(glob, "Glob cannot be null");
+    Preconditions.checkArgument(directory.isDirectory(), "`" + directory + "` is not a directory");
+
+    Path root = directory.toPath();
+    PathMatcher matcher = FileSystems.getDefault().getPathMatcher("glob:" + glob);
+    try (Stream<Path> paths = java.nio.file.Files.walk(root)) {
+      return paths.filter(java.nio.file.Files::isRegularFile)
+          .filter(path -> matcher.matches(root.relativize(path)))
+          .sorted()
+          .map(Path::toFile)
+          .collect(Collectors.toList());
+    } catch (IOException | UncheckedIOException e) {
+      throw new ConfigurationException("Cannot list configurations of `" + directory + "`", e);
+    }
+  }
+
+  /**
+   * Creates and loads the configuration of the specified file on the executor of this loader.
+   *
+   * <p>If the configuration cannot be created or loaded, the returned future is completed with a
+   * {@link ConfigurationException}.
+   *
+   * @param file File of the configuration.
+   * @return Future of the loaded configuration.
+   * @throws IllegalArgumentException Thrown when file is null.
+   */
+  @NotNull
+  public CompletableFuture<T> loadAsync(@NotNull File file) {
+    Preconditions.checkNotNull(file, "File cannot be null");
+
+    return CompletableFuture.supplyAsync(() -> load(file), executor);
+  }
+
+  /**
+   * Creates and loads in parallel the configurations of the files of the specified directory
+   * matching the specified glob.
+   *
+   * @param directory Directory of the configurations.
+   * @param glob      Glob of the files, see {@link #listFiles(File, String)}.
+   * @return Futures of the loaded configurations by file, sorted by path.
+   * @throws IllegalArgumentException Thrown when directory or glob is null, or directory is not a
+   *                                  directory.
+   * @throws ConfigurationException   Thrown when the directory cannot be listed.
+   * @see #loadAsync(File)
+   */
+  @NotNull
+  public Map<File, CompletableFuture<T>> loadAsync(@NotNull File directory, @NotNull String glob) {
+    List<File> files = listFiles(directory, glob);
+    Map<File, CompletableFuture<T>> futures = new LinkedHashMap<>(files.size() * 4 / 3 + 1);
+    for (File file : files) {
+      futures.put(file, loadAsync(file));
+    }
+    return futures;
+  }
+
+  /**
+   * Creates and loads in parallel the configurations of the files of the specified directory
+   * matching the specified glob, and waits until all of them are loaded.
+   *
+   * <p>All files are loaded even if some of them fail. The failures are then reported together by
+   * a single {@link ConfigurationException}, with the failure of each file as suppressed
+   * exception.
+   *
+   * @param directory Directory of the configurations.
+   * @param glob      Glob of the files, see {@link #listFiles(File, String)}.
+   * @return Loaded configurations by file, sorted by path.
+   * @throws IllegalArgumentException Thrown when directory or glob is null, or directory is not a
+   *                                  directory.
+   * @throws ConfigurationException   Thrown when the directory cannot be listed, or any
+   *                                  configuration cannot be loaded.
+   * @see #loadAsync(File, String)
+   */
+  @NotNull
+  public Map<File, T> loadAll(@NotNull File directory, @NotNull String glob) {
+    Map<File, CompletableFuture<T>> futures = loadAsync(directory, glob);
+    Map<File, T> configs = new LinkedHashMap<>(futures.size() * 4 / 3 + 1);
+    List<Throwable> failures = new ArrayList<>();
+    futures.forEach((file, future) -> {
+      try {
+        configs.put(file, future.join());
+      } catch (CompletionException e) {
+        failures.add(e.getCause() != null ? e.getCause() : e);
+      }
+    });
+    if (failures.isEmpty()) {
+      return configs;
+    }
+
+    ConfigurationException exception = new ConfigurationException(
+        "Cannot load " + failures.size() + " of " + futures.size() + " configurations of `"
+            + directory + "`");
+    failures.forEach(exception::addSuppressed);
+    throw exception;
+  }
+
+  private T load(File file) {
+    T config;
+    try {
+      config = factory.create(file);
+    } catch (IOException e) {
+      throw new ConfigurationException("Cannot create `" + file.getName() + "` configuration", e);
+    }
+    configurer.accept(config);
+    config.load();
+    return config;
+  }
+}
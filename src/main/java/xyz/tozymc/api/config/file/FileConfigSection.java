@@ -2,22 +2,29 @@ package xyz.tozymc.api.config.file;
 
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import xyz.tozymc.api.config.AbstractConfigSection;
+import xyz.tozymc.api.config.ConfigPath;
 import xyz.tozymc.api.config.ConfigSection;
 import xyz.tozymc.api.config.Configuration;
+import xyz.tozymc.api.config.binding.BindPath;
 import xyz.tozymc.api.config.exception.ConfigurationException;
+import xyz.tozymc.api.config.file.setting.FileConfigSetting;
+import xyz.tozymc.api.config.metrics.ConfigMetrics;
 import xyz.tozymc.api.config.serialization.handler.ConfigurationSerializers;
 import xyz.tozymc.api.config.util.Paths;
 import xyz.tozymc.api.util.NumberConversations;
 import xyz.tozymc.api.util.Preconditions;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 /**
  * A type of {@link ConfigSection} that is handled with file.
@@ -25,12 +32,16 @@ import java.util.stream.Collectors;
  * @author TozyMC
  * @since 1.0
  */
-public class FileConfigSection implements ConfigSection {
+public class FileConfigSection extends AbstractConfigSection {
 
-  protected final Map<String, Object> values = new LinkedHashMap<>();
+  protected volatile Map<String, Object> values;
   private final FileConfiguration root;
-  private final FileConfigSection parent;
+  private FileConfigSection parent;
   private final String name, path;
+  private volatile SnapshotSection.Node snapshot;
+  private volatile Map<ConfigPath, CachedArray> arrays;
+  private volatile FlatIndex<Set<String>> deepKeys;
+  private volatile FlatIndex<Map<String, ?>> deepValues;
 
   protected FileConfigSection() {
     if (!(this instanceof FileConfiguration)) {
@@ -41,6 +52,7 @@ public class FileConfigSection implements ConfigSection {
     this.path = "";
     this.root = (FileConfiguration) this;
     this.parent = null;
+    this.values = new LinkedHashMap<>();
   }
 
   public FileConfigSection(@NotNull FileConfigSection parent, @NotNull String name) {
@@ -48,559 +60,606 @@ public class FileConfigSection implements ConfigSection {
     this.root = parent.root;
     this.name = Preconditions.checkNotNull(name, "Name cannot be null");
     this.path = Paths.createPath(parent, name);
+    this.values = root.getSetting().primitiveValues() ? new PrimitiveValueMap()
+        : new LinkedHashMap<>();
   }
 
   protected boolean contains0(String path) {
-    if (path.isEmpty()) {
-      return true;
-    }
-    int index = firsSeparatorIndex(path);
-    if (index == -1) {
-      return values.containsKey(path);
-    }
-    Object val = values.get(getShallowSection(path, index));
-    if (!(val instanceof FileConfigSection)) {
-      return false;
+    return contains0(ConfigPath.of(path, root.getSetting().pathSeparator()));
+  }
+
+  protected boolean contains0(ConfigPath path) {
+    int last = path.length() - 1;
+    FileConfigSection section = this;
+    for (int i = 0; i < last; i++) {
+      Object val = section.child(path.segment(i));
+      if (!(val instanceof FileConfigSection)) {
+        return false;
+      }
+      section = (FileConfigSection) val;
     }
-    return ((FileConfigSection) val).contains0(getNextPath(path, index));
+    return last == -1 || section.values.containsKey(path.segment(last));
   }
 
   protected Object set0(String path, Object value) {
+    return set0(ConfigPath.of(path, root.getSetting().pathSeparator()), value);
+  }
+
+  protected Object set0(ConfigPath path, Object value) {
     if (path.isEmpty()) {
       return null;
     }
 
-    int index = firsSeparatorIndex(path);
-    if (index != -1) {
-      String firstSec = getShallowSection(path, index);
-      Object val = getAndValidateSectionObject(firstSec);
-      FileConfigSection sec = val == null ? createSection0(firstSec) : (FileConfigSection) val;
-      return sec.set0(getNextPath(path, index), value);
+    int last = path.length() - 1;
+    FileConfigSection section = this;
+    for (int i = 0; i < last; i++) {
+      section = section.getOrCreateChildSection(path.segment(i));
     }
 
+    String key = path.segment(last);
+    section.invalidateSnapshot();
     if (value == null) {
-      return values.remove(path);
+      return section.values.remove(key);
     }
     if (value instanceof Map) {
-      return createSection(path, (Map<?, ?>) value);
+      Object oldVal = section.values.get(key);
+      section.createSection0(ConfigPath.ofSegments(key), (Map<?, ?>) value);
+      return oldVal;
     }
-    return values.put(path, value);
+    return section.values.put(key, value);
   }
 
   protected Object get0(String path) {
+    return get0(ConfigPath.of(path, root.getSetting().pathSeparator()));
+  }
+
+  protected Object get0(ConfigPath path) {
     if (path.isEmpty()) {
       return null;
     }
 
-    int index = firsSeparatorIndex(path);
-    if (index == -1) {
-      return values.get(path);
-    }
-
-    String firstSec = getShallowSection(path, index);
-    Object val = getAndValidateSectionObject(firstSec);
-    if (val == null) {
-      return null;
+    int last = path.length() - 1;
+    FileConfigSection section = this;
+    for (int i = 0; i < last; i++) {
+      Object val = section.getAndValidateSectionObject(path.segment(i));
+      if (val == null) {
+        return null;
+      }
+      section = (FileConfigSection) val;
     }
-    return ((FileConfigSection) val).get0(getNextPath(path, index));
+    return section.child(path.segment(last));
   }
 
   protected FileConfigSection createSection0(String path) {
-    int index = firsSeparatorIndex(path);
-    if (index == -1) {
-      FileConfigSection section = new FileConfigSection(this, path);
-      values.put(path, section);
-      return section;
-    }
-    String firstSec = getShallowSection(path, index);
-    Object val = getAndValidateSectionObject(firstSec);
-
-    FileConfigSection sec;
-    if (val == null) {
-      sec = new FileConfigSection(this, firstSec);
-      values.put(firstSec, sec);
-    } else {
-      sec = (FileConfigSection) val;
-    }
-    return sec.createSection0(getNextPath(path, index));
+    return createSection0(ConfigPath.of(path, root.getSetting().pathSeparator()));
   }
 
-  private <T> T getSerializable0(String path, Class<T> clazz) {
-    if (!ConfigurationSerializers.isSerializableObject(clazz)) {
-      return null;
+  protected FileConfigSection createSection0(ConfigPath path) {
+    int last = path.length() - 1;
+    FileConfigSection section = this;
+    for (int i = 0; i < last; i++) {
+      section = section.getOrCreateChildSection(path.segment(i));
     }
-    Object val = get0(path);
-    if (!(val instanceof Map)) {
-      return null;
-    }
-    return ConfigurationSerializers.deserialize((Map<?, ?>) val, clazz);
-  }
 
-  private int firsSeparatorIndex(String path) {
-    return path.indexOf(root.getSetting().pathSeparator());
+    String key = path.lastSegment();
+    FileConfigSection sec = new FileConfigSection(section, key);
+    section.invalidateSnapshot();
+    section.values.put(key, sec);
+    return sec;
   }
 
-  private String getShallowSection(String path, int firstSeparatorIndex) {
-    return path.substring(0, firstSeparatorIndex);
-  }
+  /**
+   * Replaces all values of this section by the values of the specified detached section.
+   *
+   * <p>The children of the detached section are moved into this section, the detached section must
+   * not be used anymore.
+   *
+   * @param detached Detached section holding the new values.
+   */
+  void replaceValues(FileConfigSection detached) {
+    detached.values.forEach((key, val) -> {
+      if (val instanceof FileConfigSection) {
+        ((FileConfigSection) val).parent = this;
+      }
+    });
+    invalidateSnapshot();
+    values = detached.values;
+  }
+
+  /**
+   * Gets the snapshot node of this section, building it only if this section or any of its
+   * children were modified since the last build.
+   *
+   * @return Snapshot node of this section.
+   */
+  SnapshotSection.Node snapshotNode() {
+    SnapshotSection.Node node = snapshot;
+    if (node != null) {
+      return node;
+    }
 
-  private String getNextPath(String path, int firstSeparatorIndex) {
-    return path.substring(firstSeparatorIndex + 1);
+    Map<String, Object> nodeValues = new LinkedHashMap<>();
+    values.forEach((key, value) -> nodeValues.put(key, snapshotValue(materialize(key, value))));
+    node = new SnapshotSection.Node(name, path, nodeValues);
+    snapshot = node;
+    return node;
   }
 
-  private Object getAndValidateSectionObject(String shallowSection) {
-    Object val = values.get(shallowSection);
-    if (val != null && !(val instanceof FileConfigSection)) {
-      throw new ConfigurationException(
-          Paths.createPath(this, shallowSection) + " is not a StorageSection");
+  // Sections become nodes and lists are copied, so later changes do not modify the snapshot
+  static Object snapshotValue(Object val) {
+    if (val instanceof FileConfigSection) {
+      return ((FileConfigSection) val).snapshotNode();
+    }
+    if (val instanceof List) {
+      return Collections.unmodifiableList(new ArrayList<>((List<?>) val));
     }
     return val;
   }
 
-  @Override
-  public boolean contains(@NotNull String path) {
-    Preconditions.checkNotNull(path, "Path cannot be null");
-
-    root.reload0();
-    return contains0(path);
-  }
-
-  @Override
-  public @Nullable Object getObject(@NotNull String path) {
-    Preconditions.checkNotNull(path, "Path cannot be null");
-
-    root.reload0();
-    return get0(path);
-  }
-
-  @Override
-  public @Nullable Object getObject(@NotNull String path, Object def) {
-    Preconditions.checkNotNull(path, "Path cannot be null");
-
-    root.reload0();
-    Object val = get0(path);
-    return val != null ? val : def;
-  }
-
-  @Override
-  public boolean isByte(@NotNull String path) {
-    Preconditions.checkNotNull(path, "Path cannot be null");
-
-    root.reload0();
-    Object val = get0(path);
-    return val instanceof Byte;
-  }
-
-  @Override
-  public byte getByte(@NotNull String path) {
-    Preconditions.checkNotNull(path, "Path cannot be null");
-
-    root.reload0();
-    Object val = get0(path);
-    return NumberConversations.toByte(val);
-  }
-
-  @Override
-  public byte getByte(@NotNull String path, byte def) {
-    Preconditions.checkNotNull(path, "Path cannot be null");
-
-    root.reload0();
-    Object val = get0(path);
-    return val instanceof Number ? NumberConversations.toByte(val) : def;
-  }
-
-  @Override
-  public boolean isInt(@NotNull String path) {
-    Preconditions.checkNotNull(path, "Path cannot be null");
-
-    root.reload0();
-    Object val = get0(path);
-    return val instanceof Integer;
-  }
-
-  @Override
-  public int getInt(@NotNull String path) {
-    Preconditions.checkNotNull(path, "Path cannot be null");
-
-    root.reload0();
-    Object val = get0(path);
-    return NumberConversations.toInt(val);
-  }
-
-  @Override
-  public int getInt(@NotNull String path, int def) {
-    Preconditions.checkNotNull(path, "Path cannot be null");
-
-    root.reload0();
-    Object val = get0(path);
-    return val instanceof Number ? NumberConversations.toInt(val) : def;
-  }
-
-  @Override
-  public boolean isLong(@NotNull String path) {
-    Preconditions.checkNotNull(path, "Path cannot be null");
-
-    root.reload0();
-    Object val = get0(path);
-    return val instanceof Long;
-  }
-
-  @Override
-  public long getLong(@NotNull String path) {
-    Preconditions.checkNotNull(path, "Path cannot be null");
-
-    root.reload0();
-    Object val = get0(path);
-    return NumberConversations.toLong(val);
-  }
-
-  @Override
-  public long getLong(@NotNull String path, long def) {
-    Preconditions.checkNotNull(path, "Path cannot be null");
-
-    root.reload0();
-    Object val = get0(path);
-    return val instanceof Number ? NumberConversations.toLong(val) : def;
-  }
-
-  @Override
-  public boolean isDouble(@NotNull String path) {
-    Preconditions.checkNotNull(path, "Path cannot be null");
-
-    root.reload0();
-    Object val = get0(path);
-    return val instanceof Double;
-  }
-
-  @Override
-  public double getDouble(@NotNull String path) {
-    Preconditions.checkNotNull(path, "Path cannot be null");
-
-    root.reload0();
-    Object val = get0(path);
-    return NumberConversations.toDouble(val);
-  }
-
-  @Override
-  public double getDouble(@NotNull String path, double def) {
-    Preconditions.checkNotNull(path, "Path cannot be null");
+  /**
+   * Gets the specified path, relative to this section, relative to the configuration instead.
+   *
+   * @param path Path relative to this section.
+   * @return Path relative to the configuration.
+   */
+  ConfigPath toRootPath(ConfigPath path) {
+    int depth = 0;
+    for (FileConfigSection sec = this; sec.parent != null; sec = sec.parent) {
+      depth++;
+    }
+    if (depth == 0) {
+      return path;
+    }
 
-    root.reload0();
-    Object val = get0(path);
-    return val instanceof Number ? NumberConversations.toDouble(val) : def;
+    String[] segments = new String[depth + path.length()];
+    for (int i = 0; i < path.length(); i++) {
+      segments[depth + i] = path.segment(i);
+    }
+    for (FileConfigSection sec = this; sec.parent != null; sec = sec.parent) {
+      segments[--depth] = sec.name;
+    }
+    return ConfigPath.ofSegments(segments);
+  }
+
+  /**
+   * Creates a detached section holding the values of the specified snapshot node, which can be
+   * written by another thread while the configuration is modified.
+   *
+   * @param root Configuration the snapshot was taken from.
+   * @param node Snapshot node of the configuration.
+   * @return Detached section.
+   */
+  static FileConfigSection detach(FileConfiguration root, SnapshotSection.Node node) {
+    FileConfigSection section = new FileConfigSection(root, "");
+    section.copyNode(node);
+    return section;
+  }
+
+  // Values are put directly, the detached tree is never visible to snapshots or caches
+  private void copyNode(SnapshotSection.Node node) {
+    node.values.forEach((key, val) -> {
+      if (val instanceof SnapshotSection.Node) {
+        FileConfigSection sec = new FileConfigSection(this, key);
+        sec.copyNode((SnapshotSection.Node) val);
+        values.put(key, sec);
+      } else {
+        values.put(key, val);
+      }
+    });
   }
 
-  @Override
-  public boolean isBoolean(@NotNull String path) {
-    Preconditions.checkNotNull(path, "Path cannot be null");
+  /**
+   * Applies a change logged by the configuration to this detached section.
+   *
+   * @param path  Path relative to the configuration.
+   * @param value Snapshot value of the path, null if it was removed.
+   * @see #detach(FileConfiguration, SnapshotSection.Node)
+   */
+  void applyChange(ConfigPath path, Object value) {
+    int last = path.length() - 1;
+    FileConfigSection section = this;
+    for (int i = 0; i < last; i++) {
+      // The live path was valid, a value in the way was replaced after the snapshot was taken
+      Object val = section.values.get(path.segment(i));
+      if (!(val instanceof FileConfigSection)) {
+        val = new FileConfigSection(section, path.segment(i));
+        section.values.put(path.segment(i), val);
+      }
+      section = (FileConfigSection) val;
+    }
 
-    root.reload0();
-    Object val = get0(path);
-    return val instanceof Boolean;
+    String key = path.segment(last);
+    if (value == null) {
+      section.values.remove(key);
+    } else if (value instanceof SnapshotSection.Node) {
+      FileConfigSection sec = new FileConfigSection(section, key);
+      sec.copyNode((SnapshotSection.Node) value);
+      section.values.put(key, sec);
+    } else {
+      section.values.put(key, value);
+    }
   }
 
-  @Override
-  public boolean getBoolean(@NotNull String path) {
-    Preconditions.checkNotNull(path, "Path cannot be null");
-
-    root.reload0();
-    Object val = get0(path);
-    return val instanceof Boolean ? (Boolean) val : false;
+  /**
+   * Drops the snapshot node, the cached arrays, and the deep keys and flat map of this section and
+   * all its parents. Subclasses modifying {@link #values} directly must call this method.
+   */
+  protected void invalidateSnapshot() {
+    for (FileConfigSection sec = this; sec != null; sec = sec.parent) {
+      if (sec.snapshot == null && sec.arrays == null && sec.deepKeys == null
+          && sec.deepValues == null) {
+        continue;
+      }
+      sec.snapshot = null;
+      sec.arrays = null;
+      sec.deepKeys = null;
+      sec.deepValues = null;
+    }
   }
 
-  @Override
-  public boolean getBoolean(@NotNull String path, boolean def) {
-    Preconditions.checkNotNull(path, "Path cannot be null");
+  /**
+   * Checks if nested maps are kept unmaterialized while loading into this section.
+   *
+   * @see FileConfigSetting#lazySections(boolean)
+   */
+  boolean isLazyLoad() {
+    FileConfigSetting setting = root.getSetting();
+    return setting.lazySections() && !setting.concurrent();
+  }
+
+  /**
+   * Sets the value of the specified path while loading. Unlike {@link #set0(String, Object)}, a
+   * map is kept as it is and only created as a section on first access, the map must not be
+   * modified afterwards.
+   *
+   * <p>Like {@link #set0(String, Object)}, the path is split by the separator, and the keys of the
+   * map are split when it is created as a section, so lazy and eager loads build the same tree.
+   *
+   * @see #isLazyLoad()
+   */
+  void setLazy0(String path, Object value) {
+    setLazy0(ConfigPath.of(path, root.getSetting().pathSeparator()), value);
+  }
+
+  void setLazy0(ConfigPath path, Object value) {
+    if (!(value instanceof Map)) {
+      set0(path, value);
+      return;
+    }
 
-    root.reload0();
-    Object val = get0(path);
-    return val instanceof Boolean ? (Boolean) val : def;
+    int last = path.length() - 1;
+    FileConfigSection section = this;
+    for (int i = 0; i < last; i++) {
+      section = section.getOrCreateChildSection(path.segment(i));
+    }
+    section.invalidateSnapshot();
+    section.values.put(path.lastSegment(), value);
   }
 
-  @Override
-  public boolean isChar(@NotNull String path) {
-    Preconditions.checkNotNull(path, "Path cannot be null");
-
-    root.reload0();
-    Object val = get0(path);
-    return val instanceof Character;
+  /**
+   * Gets the value of the specified key, creating the section of an unmaterialized map.
+   */
+  private Object child(String key) {
+    return materialize(key, values.get(key));
   }
 
-  @Override
-  public char getChar(@NotNull String path) {
-    Preconditions.checkNotNull(path, "Path cannot be null");
-
-    root.reload0();
-    Object val = get0(path);
-    return val instanceof Character ? (Character) val : 0;
+  private Object materialize(String key, Object val) {
+    if (!(val instanceof Map)) {
+      return val;
+    }
+    // Values are put directly, the content is unchanged, so snapshots and flat indexes are not
+    // invalidated by reads. Nested maps stay unmaterialized and nulls were dropped while loading.
+    FileConfigSection sec = new FileConfigSection(this, key);
+    char separator = root.getSetting().pathSeparator();
+    ((Map<?, ?>) val).forEach((childKey, childVal) -> {
+      if (childVal != null) {
+        sec.putLoaded(String.valueOf(childKey), childVal, separator);
+      }
+    });
+    values.put(key, sec);
+    return sec;
   }
 
-  @Override
-  public char getChar(@NotNull String path, char def) {
-    Preconditions.checkNotNull(path, "Path cannot be null");
+  // Same as set0(String, Object) without invalidating, the path is split into nested sections
+  private void putLoaded(String path, Object val, char separator) {
+    if (path.indexOf(separator) == -1) {
+      values.put(path, val);
+      return;
+    }
 
-    root.reload0();
-    Object val = get0(path);
-    return val instanceof Character ? (Character) val : def;
+    ConfigPath compiled = ConfigPath.of(path, separator);
+    FileConfigSection section = this;
+    for (int i = 0; i < compiled.length() - 1; i++) {
+      String segment = compiled.segment(i);
+      Object child = section.child(segment);
+      if (child == null) {
+        child = new FileConfigSection(section, segment);
+        section.values.put(segment, child);
+      } else if (!(child instanceof FileConfigSection)) {
+        throw new ConfigurationException(
+            Paths.createPath(section, segment) + " is not a StorageSection");
+      }
+      section = (FileConfigSection) child;
+    }
+    section.values.put(compiled.lastSegment(), val);
   }
 
-  @Override
-  public boolean isString(@NotNull String path) {
-    Preconditions.checkNotNull(path, "Path cannot be null");
-
-    root.reload0();
-    Object val = get0(path);
-    return val instanceof String;
+  protected FileConfigSection createSection0(ConfigPath path, Map<?, ?> values) {
+    FileConfigSection sec = createSection0(path);
+    values.forEach((key, val) -> sec.set0(String.valueOf(key), val));
+    return sec;
   }
 
-  @Override
-  public @NotNull String getString(@NotNull String path) {
-    Preconditions.checkNotNull(path, "Path cannot be null");
-
-    root.reload0();
-    return String.valueOf(get0(path));
+  private FileConfigSection getOrCreateChildSection(String key) {
+    Object val = getAndValidateSectionObject(key);
+    if (val != null) {
+      return (FileConfigSection) val;
+    }
+    FileConfigSection section = new FileConfigSection(this, key);
+    invalidateSnapshot();
+    values.put(key, section);
+    return section;
   }
 
-  @Override
-  public @NotNull String getString(@NotNull String path, String def) {
-    Preconditions.checkNotNull(path, "Path cannot be null");
-
-    root.reload0();
-    Object val = get0(path);
-    return val instanceof String ? String.valueOf(val) : def;
+  private Object getAndValidateSectionObject(String shallowSection) {
+    Object val = child(shallowSection);
+    if (val != null && !(val instanceof FileConfigSection)) {
+      throw new ConfigurationException(
+          Paths.createPath(this, shallowSection) + " is not a StorageSection");
+    }
+    return val;
   }
 
   @Override
-  public boolean isList(@NotNull String path) {
-    Preconditions.checkNotNull(path, "Path cannot be null");
-
-    root.reload0();
-    Object val = get0(path);
-    return val instanceof List;
+  protected @NotNull ConfigPath compilePath(@NotNull String path) {
+    return root.compilePath(path);
   }
 
   @Override
-  public @Nullable List<?> getList(@NotNull String path) {
-    Preconditions.checkNotNull(path, "Path cannot be null");
-
+  protected @Nullable Object getValue(@NotNull ConfigPath path) {
     root.reload0();
-    Object val = get0(path);
-    return val instanceof List ? (List<?>) val : null;
+    return read0(path);
   }
 
-  @Override
-  public @Nullable List<?> getList(@NotNull String path, List<?> def) {
-    Preconditions.checkNotNull(path, "Path cannot be null");
-
-    root.reload0();
-    Object val = get0(path);
-    return val instanceof List ? (List<?>) val : def;
+  private Object read0(ConfigPath path) {
+    if (!root.getSetting().concurrent()) {
+      return get0(path);
+    }
+    // Writers publish the nodes of the sections they modified before unlocking, so values are read
+    // from the immutable node without lock. Sections are returned live, so they are read locked.
+    SnapshotSection.Node node = snapshot;
+    if (node != null) {
+      Object val = node.get(path);
+      if (!(val instanceof SnapshotSection.Node)) {
+        return val;
+      }
+    }
+    long stamp = root.readLock();
+    try {
+      return get0(path);
+    } finally {
+      root.unlockRead(stamp);
+    }
   }
 
-  @Override
-  public @NotNull List<String> getStringList(@NotNull String path) {
-    Preconditions.checkNotNull(path, "Path cannot be null");
+  /**
+   * Gets the {@link PrimitiveValueMap} holding the value of the specified path, returning null if
+   * it is not found or cannot be read without lock.
+   */
+  private PrimitiveValueMap getPrimitiveHolder0(ConfigPath path) {
+    if (path.isEmpty() || root.getSetting().concurrent()) {
+      return null;
+    }
 
-    root.reload0();
-    Object val = get0(path);
-    if (!(val instanceof List)) {
-      return new ArrayList<>();
+    int last = path.length() - 1;
+    FileConfigSection section = this;
+    for (int i = 0; i < last; i++) {
+      Object val = section.getAndValidateSectionObject(path.segment(i));
+      if (val == null) {
+        return null;
+      }
+      section = (FileConfigSection) val;
     }
-    return ((List<?>) val).stream().map(String::valueOf).collect(Collectors.toList());
+    Map<String, Object> sectionValues = section.values;
+    return sectionValues instanceof PrimitiveValueMap ? (PrimitiveValueMap) sectionValues : null;
   }
 
   @Override
-  public @NotNull List<Byte> getByteList(@NotNull String path) {
-    Preconditions.checkNotNull(path, "Path cannot be null");
-
-    root.reload0();
-    Object val = get0(path);
+  protected @Nullable Object getArrayValue(@NotNull ConfigPath path,
+      @NotNull Function<List<?>, Object> converter) {
+    Object val = getValue(path);
     if (!(val instanceof List)) {
-      return new ArrayList<>();
+      return null;
     }
-    return ((List<?>) val).stream()
-        .filter(Number.class::isInstance)
-        .map(NumberConversations::toByte)
-        .collect(Collectors.toList());
-  }
-
-  @Override
-  public @NotNull List<Integer> getIntegerList(@NotNull String path) {
-    Preconditions.checkNotNull(path, "Path cannot be null");
 
-    root.reload0();
-    Object val = get0(path);
-    if (!(val instanceof List)) {
-      return new ArrayList<>();
+    List<?> list = (List<?>) val;
+    Map<ConfigPath, CachedArray> cache = arrays;
+    if (cache == null) {
+      cache = new ConcurrentHashMap<>();
+      arrays = cache;
     }
-    return ((List<?>) val).stream()
-        .filter(Number.class::isInstance)
-        .map(NumberConversations::toInt)
-        .collect(Collectors.toList());
+    CachedArray cached = cache.get(path);
+    if (cached != null && cached.isValid(list, converter)) {
+      return cached.array;
+    }
+    Object array = converter.apply(list);
+    cache.put(path, new CachedArray(list, converter, array));
+    return array;
   }
 
   @Override
-  public @NotNull List<Long> getLongList(@NotNull String path) {
-    Preconditions.checkNotNull(path, "Path cannot be null");
-
+  protected boolean containsValue(@NotNull ConfigPath path) {
     root.reload0();
-    Object val = get0(path);
-    if (!(val instanceof List)) {
-      return new ArrayList<>();
+    if (!root.getSetting().concurrent()) {
+      return contains0(path);
+    }
+    SnapshotSection.Node node = snapshot;
+    if (node != null) {
+      return node.contains(path);
+    }
+    long stamp = root.readLock();
+    try {
+      return contains0(path);
+    } finally {
+      root.unlockRead(stamp);
     }
-    return ((List<?>) val).stream()
-        .filter(Number.class::isInstance)
-        .map(NumberConversations::toLong)
-        .collect(Collectors.toList());
   }
 
   @Override
-  public @NotNull List<Float> getFloatList(@NotNull String path) {
+  public int getInt(@NotNull ConfigPath path) {
     Preconditions.checkNotNull(path, "Path cannot be null");
 
     root.reload0();
-    Object val = get0(path);
-    if (!(val instanceof List)) {
-      return new ArrayList<>();
+    PrimitiveValueMap holder = getPrimitiveHolder0(path);
+    int index = holder != null ? holder.indexOf(path.lastSegment()) : -1;
+    if (index != -1 && holder.isNumber(index)) {
+      return holder.intAt(index);
     }
-    return ((List<?>) val).stream()
-        .filter(Number.class::isInstance)
-        .map(NumberConversations::toFloat)
-        .collect(Collectors.toList());
+    return NumberConversations.toInt(read0(path));
   }
 
   @Override
-  public @NotNull List<Double> getDoubleList(@NotNull String path) {
+  public int getInt(@NotNull ConfigPath path, int def) {
     Preconditions.checkNotNull(path, "Path cannot be null");
 
     root.reload0();
-    Object val = get0(path);
-    if (!(val instanceof List)) {
-      return new ArrayList<>();
+    PrimitiveValueMap holder = getPrimitiveHolder0(path);
+    int index = holder != null ? holder.indexOf(path.lastSegment()) : -1;
+    if (index != -1 && holder.isNumber(index)) {
+      return holder.intAt(index);
     }
-    return ((List<?>) val).stream()
-        .filter(Number.class::isInstance)
-        .map(NumberConversations::toDouble)
-        .collect(Collectors.toList());
+    Object val = read0(path);
+    return val instanceof Number ? NumberConversations.toInt(val) : def;
   }
 
   @Override
-  public @NotNull List<Boolean> getBooleanList(@NotNull String path) {
+  public long getLong(@NotNull ConfigPath path) {
     Preconditions.checkNotNull(path, "Path cannot be null");
 
     root.reload0();
-    Object val = get0(path);
-    if (!(val instanceof List)) {
-      return new ArrayList<>();
+    PrimitiveValueMap holder = getPrimitiveHolder0(path);
+    int index = holder != null ? holder.indexOf(path.lastSegment()) : -1;
+    if (index != -1 && holder.isNumber(index)) {
+      return holder.longAt(index);
     }
-    return ((List<?>) val).stream()
-        .filter(Boolean.class::isInstance)
-        .map(Boolean.class::cast)
-        .collect(Collectors.toList());
+    return NumberConversations.toLong(read0(path));
   }
 
   @Override
-  public @NotNull List<Character> getCharacterList(@NotNull String path) {
+  public long getLong(@NotNull ConfigPath path, long def) {
     Preconditions.checkNotNull(path, "Path cannot be null");
 
     root.reload0();
-    Object val = get0(path);
-    if (!(val instanceof List)) {
-      return new ArrayList<>();
+    PrimitiveValueMap holder = getPrimitiveHolder0(path);
+    int index = holder != null ? holder.indexOf(path.lastSegment()) : -1;
+    if (index != -1 && holder.isNumber(index)) {
+      return holder.longAt(index);
     }
-    return ((List<?>) val).stream()
-        .filter(Character.class::isInstance)
-        .map(Character.class::cast)
-        .collect(Collectors.toList());
+    Object val = read0(path);
+    return val instanceof Number ? NumberConversations.toLong(val) : def;
   }
 
   @Override
-  public @NotNull Optional<?> findObject(@NotNull String path) {
+  public double getDouble(@NotNull ConfigPath path) {
     Preconditions.checkNotNull(path, "Path cannot be null");
 
     root.reload0();
-    return Optional.ofNullable(get0(path));
+    PrimitiveValueMap holder = getPrimitiveHolder0(path);
+    int index = holder != null ? holder.indexOf(path.lastSegment()) : -1;
+    if (index != -1 && holder.isNumber(index)) {
+      return holder.doubleAt(index);
+    }
+    return NumberConversations.toDouble(read0(path));
   }
 
   @Override
-  public @NotNull <T> Optional<T> find(@NotNull String path, @NotNull Class<T> clazz) {
+  public double getDouble(@NotNull ConfigPath path, double def) {
     Preconditions.checkNotNull(path, "Path cannot be null");
-    Preconditions.checkNotNull(clazz, "Clazz cannot be null");
 
     root.reload0();
-    Object val = get0(path);
-    return clazz.isInstance(val) ? Optional.of(clazz.cast(val)) : Optional.empty();
+    PrimitiveValueMap holder = getPrimitiveHolder0(path);
+    int index = holder != null ? holder.indexOf(path.lastSegment()) : -1;
+    if (index != -1 && holder.isNumber(index)) {
+      return holder.doubleAt(index);
+    }
+    Object val = read0(path);
+    return val instanceof Number ? NumberConversations.toDouble(val) : def;
   }
 
   @Override
-  public <T> @Nullable T get(@NotNull String path, @NotNull Class<T> clazz) {
+  public boolean getBoolean(@NotNull ConfigPath path) {
     Preconditions.checkNotNull(path, "Path cannot be null");
-    Preconditions.checkNotNull(clazz, "Clazz cannot be null");
 
     root.reload0();
-    Object val = get0(path);
-    if (!clazz.isInstance(val)) {
-      return null;
+    PrimitiveValueMap holder = getPrimitiveHolder0(path);
+    int index = holder != null ? holder.indexOf(path.lastSegment()) : -1;
+    if (index != -1 && holder.isBoolean(index)) {
+      return holder.booleanAt(index);
     }
-    return clazz.isInstance(val) ? clazz.cast(val) : null;
+    Object val = read0(path);
+    return val instanceof Boolean ? (Boolean) val : false;
   }
 
   @Override
-  public <T> @Nullable T getOrDefault(@NotNull String path, @NotNull Class<T> clazz, T def) {
+  public boolean getBoolean(@NotNull ConfigPath path, boolean def) {
     Preconditions.checkNotNull(path, "Path cannot be null");
-    Preconditions.checkNotNull(clazz, "Clazz cannot be null");
 
     root.reload0();
-    Object val = get0(path);
-    return clazz.isInstance(val) ? clazz.cast(val) : def;
+    PrimitiveValueMap holder = getPrimitiveHolder0(path);
+    int index = holder != null ? holder.indexOf(path.lastSegment()) : -1;
+    if (index != -1 && holder.isBoolean(index)) {
+      return holder.booleanAt(index);
+    }
+    Object val = read0(path);
+    return val instanceof Boolean ? (Boolean) val : def;
   }
 
   @Override
   public @NotNull Optional<?> set(@NotNull String path, Object value) {
-    Preconditions.checkNotNull(path, "Path cannot be null");
-
-    Object oldVal = null;
-    boolean isSerializableObj = ConfigurationSerializers.isSerializableObject(value);
-    if (isSerializableObj) {
-      oldVal = get0(path);
-
-      createSection(path, ConfigurationSerializers.serialize(value));
-    }
-
-    if (!isSerializableObj) {
-      oldVal = set0(path, value);
+    ConfigPath compiled = compile(path);
+
+    Object oldVal;
+    long stamp = root.writeLock();
+    try {
+      if (ConfigurationSerializers.isSerializableObject(value)) {
+        oldVal = get0(compiled);
+        if (!compiled.isEmpty()) {
+          createSection0(compiled, serialize(value));
+        }
+      } else {
+        oldVal = set0(compiled, value);
+      }
+      root.incrementVersion();
+    } finally {
+      root.unlockWrite(stamp);
     }
 
+    root.logChange(this, compiled);
     root.save0(value, oldVal);
     return Optional.ofNullable(oldVal);
   }
 
-  @Override
-  public boolean isSection(@NotNull String path) {
-    Preconditions.checkNotNull(path, "Path cannot be null");
-
-    root.reload0();
-    return get0(path) instanceof ConfigSection;
-  }
-
-  @Override
-  public @NotNull Optional<ConfigSection> findSection(@NotNull String path) {
-    Preconditions.checkNotNull(path, "Path cannot be null");
-
-    root.reload0();
-    Object val = get0(path);
-
-    return val instanceof ConfigSection ? Optional.of((ConfigSection) val) : Optional.empty();
+  private Map<?, ?> serialize(Object value) {
+    ConfigMetrics metrics = root.getSetting().metrics();
+    if (metrics == ConfigMetrics.NOOP) {
+      return ConfigurationSerializers.serialize(value);
+    }
+    long start = System.nanoTime();
+    Map<?, ?> map = ConfigurationSerializers.serialize(value);
+    metrics.recordSerialize(value.getClass(), System.nanoTime() - start);
+    return map;
   }
 
   @Override
-  public @Nullable ConfigSection getSection(@NotNull String path) {
-    Preconditions.checkNotNull(path, "Path cannot be null");
-
-    root.reload0();
-    Object val = get0(path);
-
-    return val instanceof ConfigSection ? (ConfigSection) val : null;
+  protected <T> T deserialize(@NotNull Map<?, ?> map, @NotNull Class<T> clazz) {
+    ConfigMetrics metrics = root.getSetting().metrics();
+    if (metrics == ConfigMetrics.NOOP) {
+      return super.deserialize(map, clazz);
+    }
+    long start = System.nanoTime();
+    T object = super.deserialize(map, clazz);
+    metrics.recordDeserialize(clazz, System.nanoTime() - start);
+    return object;
   }
 
   @Override
@@ -611,11 +670,20 @@ public class FileConfigSection implements ConfigSection {
       return this;
     }
 
-    Object val = get0(path);
-    if (val != null) {
-      throw new ConfigurationException(Paths.createPath(this, path) + " already exists");
+    ConfigPath compiled = root.compilePath(path);
+    FileConfigSection sec;
+    long stamp = root.writeLock();
+    try {
+      Object val = get0(compiled);
+      if (val != null) {
+        throw new ConfigurationException(Paths.createPath(this, path) + " already exists");
+      }
+      sec = createSection0(compiled);
+      root.incrementVersion();
+    } finally {
+      root.unlockWrite(stamp);
     }
-    FileConfigSection sec = createSection0(path);
+    root.logChange(this, compiled);
     root.save0();
     return sec;
   }
@@ -627,68 +695,155 @@ public class FileConfigSection implements ConfigSection {
     if (path.isEmpty()) {
       return this;
     }
-    FileConfigSection sec = createSection0(path);
-    values.forEach((key, val) -> sec.set0(String.valueOf(key), val));
+    ConfigPath compiled = root.compilePath(path);
+    FileConfigSection sec;
+    long stamp = root.writeLock();
+    try {
+      sec = createSection0(compiled, values);
+      root.incrementVersion();
+    } finally {
+      root.unlockWrite(stamp);
+    }
+    root.logChange(this, compiled);
     return sec;
   }
 
-  @Override
-  public @NotNull <T> Optional<T> findSerializable(@NotNull String path, @NotNull Class<T> clazz) {
-    Preconditions.checkNotNull(path, "Path cannot be null");
-    Preconditions.checkNotNull(clazz, "Clazz cannot be null");
-
-    return Optional.ofNullable(getSerializable0(path, clazz));
-  }
-
-  @Override
-  public <T> @Nullable T getSerializable(@NotNull String path, @NotNull Class<T> clazz) {
-    Preconditions.checkNotNull(path, "Path cannot be null");
-    Preconditions.checkNotNull(clazz, "Clazz cannot be null");
-
-    return getSerializable0(path, clazz);
+  /**
+   * Binds the specified interface to this section.
+   *
+   * <p>Each method of the interface is mapped to the path given by its {@link BindPath}, or to its
+   * name, relative to this section. Values are converted to the return types of the methods once,
+   * and only converted again after the configuration was modified or loaded, so calling the methods
+   * of the binding is almost as cheap as reading fields. Methods returning another interface,
+   * except the interfaces of {@code java.*}, are bound to the section at their path. Static and
+   * default methods are not bound, default methods are called as declared.
+   *
+   * <p>Supported return types are primitives and their wrappers, {@link String}, lists, sets,
+   * collections, maps, primitive arrays, {@link ConfigSection}, serializable classes and
+   * interfaces. Returned lists, sets and maps are unmodifiable, and arrays are copies.
+   *
+   * <p><b>Notes: </b>Calling the methods of a binding reloads the configuration like the getters,
+   * according to its reload type. The binding follows this section by path, so it still works
+   * after the configuration is loaded again.
+   *
+   * @param type Interface to bind.
+   * @param <T>  Type of the interface.
+   * @return Instance of the interface reading this section.
+   * @throws IllegalArgumentException Thrown when type is null or not an interface.
+   * @throws ConfigurationException   Thrown when a method has parameters or an unsupported return
+   *                                  type, or an interface refers to itself.
+   */
+  @NotNull
+  public <T> T bind(@NotNull Class<T> type) {
+    Preconditions.checkNotNull(type, "Type cannot be null");
+    Preconditions.checkArgument(type.isInterface(), "Type must be an interface");
+
+    List<String> segments = new ArrayList<>();
+    for (FileConfigSection sec = this; sec != root; sec = sec.parent) {
+      segments.add(0, sec.name);
+    }
+    return ConfigBinding.bind(root, type, ConfigPath.ofSegments(segments.toArray(new String[0])));
   }
 
-  @Override
-  public <T> @Nullable T getSerializableOrDefault(@NotNull String path, @NotNull Class<T> clazz,
-      T def) {
-    Preconditions.checkNotNull(path, "Path cannot be null");
-    Preconditions.checkNotNull(clazz, "Clazz cannot be null");
-
-    T val = getSerializable0(path, clazz);
-    return val != null ? val : def;
+  protected void mapChildrenKeys(Set<String> output, FileConfigSection section, boolean deep) {
+    StringBuilder prefix = new StringBuilder(Paths.createPath(section, "", this));
+    mapChildrenKeys(output, section, prefix, root.getSetting().pathSeparator(), deep);
   }
 
-  protected void mapChildrenKeys(Set<String> output, FileConfigSection section, boolean deep) {
+  // The prefix is the path of the section followed by the separator, it is restored after use
+  private void mapChildrenKeys(Set<String> output, FileConfigSection section,
+      StringBuilder prefix, char separator, boolean deep) {
+    int length = prefix.length();
     section.values.forEach((key, value) -> {
-      output.add(Paths.createPath(section, key, this));
+      prefix.append(key);
+      output.add(prefix.toString());
 
-      if (deep && value instanceof ConfigSection) {
-        mapChildrenKeys(output, (FileConfigSection) value, true);
+      if (deep && value instanceof Map) {
+        value = section.materialize(key, value);
+      }
+      if (deep && value instanceof FileConfigSection) {
+        prefix.append(separator);
+        mapChildrenKeys(output, (FileConfigSection) value, prefix, separator, true);
       }
+      prefix.setLength(length);
     });
   }
 
   protected void mapChildrenValues(Map<String, Object> output, FileConfigSection section,
       boolean deep) {
-    section.values.forEach((key, value) -> {
-      output.put(Paths.createPath(section, key, this), value);
+    StringBuilder prefix = new StringBuilder(Paths.createPath(section, "", this));
+    mapChildrenValues(output, section, prefix, root.getSetting().pathSeparator(), deep);
+  }
 
-      if (deep && value instanceof ConfigSection) {
-        mapChildrenValues(output, (FileConfigSection) value, true);
+  private void mapChildrenValues(Map<String, Object> output, FileConfigSection section,
+      StringBuilder prefix, char separator, boolean deep) {
+    int length = prefix.length();
+    section.values.forEach((key, val) -> {
+      Object value = section.materialize(key, val);
+      prefix.append(key);
+      output.put(prefix.toString(), value);
+
+      if (deep && value instanceof FileConfigSection) {
+        prefix.append(separator);
+        mapChildrenValues(output, (FileConfigSection) value, prefix, separator, true);
       }
+      prefix.setLength(length);
     });
   }
 
+  @Override
+  protected @NotNull Object[] childEntries() {
+    long stamp = root.readLock();
+    try {
+      Object[] entries = new Object[values.size() * 2];
+      int i = 0;
+      for (Map.Entry<String, Object> entry : values.entrySet()) {
+        entries[i++] = entry.getKey();
+        entries[i++] = entry.getValue();
+      }
+      // Materializing replaces values, so it is done after iterating
+      for (int j = 0; j < entries.length; j += 2) {
+        entries[j + 1] = materialize((String) entries[j], entries[j + 1]);
+      }
+      return entries;
+    } finally {
+      root.unlockRead(stamp);
+    }
+  }
+
   @Override
   public @NotNull Set<String> getKeys() {
     return getKeys(false);
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * <p><b>Notes: </b>The deep keys are cached until this section or any of its children is
+   * modified, or the configuration is loaded, so getting them again is free. The deep set is an
+   * unmodifiable view of the cache, it must be copied to be modified or kept across
+   * modifications.
+   */
   @Override
   public @NotNull Set<String> getKeys(boolean deep) {
+    FlatIndex<Set<String>> index = deepKeys;
+    if (deep && index != null && index.isValid(root)) {
+      return index.value;
+    }
+
     Set<String> result = new LinkedHashSet<>();
-    mapChildrenKeys(result, this, deep);
-    return result;
+    long stamp = root.readLock();
+    try {
+      mapChildrenKeys(result, this, deep);
+      if (!deep) {
+        return result;
+      }
+      Set<String> view = Collections.unmodifiableSet(result);
+      deepKeys = new FlatIndex<>(root, view);
+      return view;
+    } finally {
+      root.unlockRead(stamp);
+    }
   }
 
   @Override
@@ -696,11 +851,34 @@ public class FileConfigSection implements ConfigSection {
     return toFlatMap(false);
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * <p><b>Notes: </b>The deep values are cached until this section or any of its children is
+   * modified, or the configuration is loaded, so getting them again is free. The deep map is an
+   * unmodifiable view of the cache, it must be copied to be modified or kept across
+   * modifications.
+   */
   @Override
   public @NotNull Map<String, ?> toFlatMap(boolean deep) {
+    FlatIndex<Map<String, ?>> index = deepValues;
+    if (deep && index != null && index.isValid(root)) {
+      return index.value;
+    }
+
     Map<String, Object> result = new LinkedHashMap<>();
-    mapChildrenValues(result, this, deep);
-    return result;
+    long stamp = root.readLock();
+    try {
+      mapChildrenValues(result, this, deep);
+      if (!deep) {
+        return result;
+      }
+      Map<String, ?> view = Collections.unmodifiableMap(result);
+      deepValues = new FlatIndex<>(root, view);
+      return view;
+    } finally {
+      root.unlockRead(stamp);
+    }
   }
 
   @Override
@@ -727,4 +905,47 @@ public class FileConfigSection implements ConfigSection {
   public String toString() {
     return getClass().getSimpleName() + "[path=" + path + ", root=" + root + "]";
   }
+
+  /**
+   * Result of a deep traversal, dropped when the section or any of its children is modified, and
+   * valid as long as the path separator is not changed.
+   */
+  private static final class FlatIndex<T> {
+
+    private final char separator;
+    private final T value;
+
+    private FlatIndex(FileConfiguration root, T value) {
+      this.separator = root.getSetting().pathSeparator();
+      this.value = value;
+    }
+
+    private boolean isValid(FileConfiguration root) {
+      return separator == root.getSetting().pathSeparator();
+    }
+  }
+
+  /**
+   * Array converted from a list. The cached arrays of a section are dropped when the section or
+   * any of its children is modified, the list is still compared in case it was replaced
+   * concurrently.
+   */
+  private static final class CachedArray {
+
+    private final List<?> source;
+    private final int size;
+    private final Function<List<?>, Object> converter;
+    private final Object array;
+
+    private CachedArray(List<?> source, Function<List<?>, Object> converter, Object array) {
+      this.source = source;
+      this.size = source.size();
+      this.converter = converter;
+      this.array = array;
+    }
+
+    private boolean isValid(List<?> list, Function<List<?>, Object> converter) {
+      return source == list && size == list.size() && this.converter == converter;
+    }
+  }
 }
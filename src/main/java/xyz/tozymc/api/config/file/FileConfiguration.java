@@ -1,20 +1,42 @@
 package xyz.tozymc.api.config.file;
 
 import org.jetbrains.annotations.NotNull;
+import xyz.tozymc.api.config.ConfigPath;
 import xyz.tozymc.api.config.Configuration;
+import xyz.tozymc.api.config.change.ConfigChange;
+import xyz.tozymc.api.config.change.ConfigChangeListener;
 import xyz.tozymc.api.config.exception.ConfigurationException;
 import xyz.tozymc.api.config.file.setting.FileConfigSetting;
+import xyz.tozymc.api.config.file.setting.ReloadType;
+import xyz.tozymc.api.config.file.setting.SaveDurability;
+import xyz.tozymc.api.config.metrics.ConfigMetrics;
+import xyz.tozymc.api.config.util.PathCache;
 import xyz.tozymc.api.util.Files;
 import xyz.tozymc.api.util.Preconditions;
 
 import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
 import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.StampedLock;
+import java.util.zip.CRC32;
 
 /**
  * The base class for all file based implement of {@link Configuration}.
@@ -23,12 +45,41 @@ import java.util.Objects;
  * @since 1.0
  */
 public abstract class FileConfiguration extends FileConfigSection implements Configuration,
-    Comparable<FileConfiguration> {
+    Comparable<FileConfiguration>, AutoCloseable {
+
+  private static final long UNKNOWN_CHECKSUM = -1;
+  private static final ClassValue<Boolean> OVERRIDES_READ = new ClassValue<Boolean>() {
+    @Override
+    protected Boolean computeValue(Class<?> type) {
+      return overridesRead(type);
+    }
+  };
 
   private final File file;
   private final FileConfigSetting setting;
+  private final PathCache pathCache = new PathCache(this::recordPathCacheMiss);
+  private final Object saveLock = new Object();
+  private final StampedLock lock = new StampedLock();
+  private final List<ChangeSubscription> changeSubscriptions = new CopyOnWriteArrayList<>();
+  private final ThreadLocal<byte[]> readingContent = new ThreadLocal<>();
 
   protected long timestamp;
+  private volatile boolean watching;
+  private volatile boolean fileChanged;
+  private volatile long checksum = UNKNOWN_CHECKSUM;
+  private final AtomicLong lastChecksumCheck = new AtomicLong();
+  private CRC32 writtenChecksum;
+  private volatile boolean unsaved;
+  private long unsavedChanges;
+  private PendingSave pendingSave;
+  private boolean changeLogged;
+  private long firstUnsavedChange;
+  private volatile long lastUnsavedChange;
+  private ScheduledFuture<?> scheduledSave;
+  private File pendingFile;
+  private volatile SnapshotConfiguration lastSnapshot;
+  private volatile long version;
+  private volatile long loadCount;
 
   /**
    * Constructs new {@link FileConfiguration} with specified file.
@@ -36,10 +87,16 @@ public abstract class FileConfiguration extends FileConfigSection implements Con
    * <p>This constructor also creates new file if it doesn't exist, and update timestamp.
    *
    * @param file The file to store data into.
-   * @throws IOException Thrown when initial file failed.
+   * @throws IOException            Thrown when initial file failed.
+   * @throws ConfigurationException Thrown when the class overrides neither {@link
+   *                                #read(FileConfigSection)} nor {@link #read()}.
    */
   protected FileConfiguration(@NotNull File file)
       throws IOException {
+    if (!OVERRIDES_READ.get(getClass())) {
+      throw new ConfigurationException(
+          getClass().getName() + " must override read(FileConfigSection)");
+    }
     this.file = Preconditions.checkNotNull(file, "File cannot be null");
     this.setting = new FileConfigSetting(this);
 
@@ -47,10 +104,100 @@ public abstract class FileConfiguration extends FileConfigSection implements Con
     updateTimestamp();
   }
 
-  protected abstract void read() throws IOException;
+  /**
+   * Reads the values of this {@link FileConfiguration} from file into the specified section.
+   *
+   * <p>The section is detached, it only replaces the values of this configuration after the whole
+   * file was read, so this method must not modify this configuration directly.
+   *
+   * <p>The default implementation calls the deprecated {@link #read()}, with the values of this
+   * configuration temporarily replaced by the ones of the section, so subclasses only overriding
+   * {@link #read()} still work. Readers are then blocked while the file is read.
+   *
+   * @param section Detached section to read into.
+   * @throws IOException Thrown when the file cannot be read.
+   */
+  protected void read(@NotNull FileConfigSection section) throws IOException {
+    long stamp = writeLock();
+    Map<String, Object> current = values;
+    values = section.values;
+    try {
+      read();
+    } finally {
+      values = current;
+      unlockWrite(stamp);
+    }
+  }
+
+  /**
+   * Reads the values of this {@link FileConfiguration} from file into this configuration.
+   *
+   * <p><b>Notes: </b>This method is only called by the default implementation of {@link
+   * #read(FileConfigSection)}, while holding the write lock of this configuration, so it must not
+   * call its public modifying methods in {@link FileConfigSetting#concurrent()} mode.
+   *
+   * @throws IOException Thrown when the file cannot be read.
+   * @deprecated Override {@link #read(FileConfigSection)} instead, which reads into a detached
+   *             section without blocking the readers of this configuration.
+   */
+  @Deprecated
+  protected void read() throws IOException {
+    // Never called, the constructor checks that one of the read methods is overridden
+  }
+
+  private static boolean overridesRead(Class<?> type) {
+    for (Class<?> cls = type; cls != FileConfiguration.class; cls = cls.getSuperclass()) {
+      if (declaresMethod(cls, "read", FileConfigSection.class) || declaresMethod(cls, "read")) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static boolean declaresMethod(Class<?> cls, String name, Class<?>... parameterTypes) {
+    try {
+      cls.getDeclaredMethod(name, parameterTypes);
+      return true;
+    } catch (NoSuchMethodException e) {
+      return false;
+    }
+  }
 
   protected abstract void write() throws IOException;
 
+  /**
+   * Writes the specified section to file instead of the values of this {@link FileConfiguration}.
+   *
+   * <p>The section is a detached copy of the values of this configuration, written by delayed
+   * saves on the scheduler thread while this configuration may be modified. The default
+   * implementation only writes this configuration itself, subclasses overriding this method must
+   * also override {@link #supportsDetachedWrite()}.
+   *
+   * @param section Section to write, this configuration or a detached copy of it.
+   * @throws IOException Thrown when the file cannot be written.
+   */
+  protected void write(@NotNull FileConfigSection section) throws IOException {
+    if (section != this) {
+      throw new UnsupportedOperationException(
+          getClass().getSimpleName() + " cannot write detached sections");
+    }
+    write();
+  }
+
+  /**
+   * Checks if {@link #write(FileConfigSection)} can write a detached copy of the values of this
+   * {@link FileConfiguration}.
+   *
+   * <p>Unless {@link FileConfigSetting#concurrent()} is enabled, delayed saves write a snapshot of
+   * the values, so configurations not supporting detached writes are saved without delay.
+   *
+   * @return Whether or not detached sections can be written.
+   * @see FileConfigSetting#saveDelay(long)
+   */
+  protected boolean supportsDetachedWrite() {
+    return false;
+  }
+
   protected boolean hasFileChanged() {
     return file.lastModified() < timestamp;
   }
@@ -71,41 +218,422 @@ public abstract class FileConfiguration extends FileConfigSection implements Con
    *
    * <p>If the file cannot be loaded for any reason, an exception will be thrown. After loading,
    * this configuration will update timestamp.
+   *
+   * <p>The file is read into a detached tree, which then replaces all values at once. Readers are
+   * never blocked while the file is read, and never see a partially loaded configuration.
+   *
+   * <p>If change listeners are registered, the loaded tree is compared with the current one, and
+   * the listeners of the changed paths are notified after the values were replaced.
+   *
+   * <p>If {@link FileConfigSetting#binaryCache()} is enabled, the values are read from the binary
+   * cache file when the content of the file did not change since the cache was written.
+   *
+   * @see #onChange(String, ConfigChangeListener)
    */
   public void load() {
+    List<ConfigChange> changes = Collections.emptyList();
+    ConfigMetrics metrics = setting.metrics();
     try {
-      read();
+      long start = metrics != ConfigMetrics.NOOP ? System.nanoTime() : 0;
+      FileConfigSection loaded = readFile();
+      if (metrics != ConfigMetrics.NOOP) {
+        metrics.recordLoad(System.nanoTime() - start, file.length(), countKeys(loaded.values));
+      }
+
+      // The diff is computed under the shared lock, so readers are only blocked by the swap
+      long diffVersion = 0;
+      if (!changeSubscriptions.isEmpty()) {
+        long stamp = readLock();
+        try {
+          diffVersion = version;
+          changes = ConfigDiff.diff(this, loaded);
+        } finally {
+          unlockRead(stamp);
+        }
+      }
+
+      long stamp = writeLock();
+      try {
+        if (!changeSubscriptions.isEmpty() && version != diffVersion) {
+          // Modified between the diff and the swap, the diff must be computed again
+          changes = ConfigDiff.diff(this, loaded);
+        }
+        replaceValues(loaded);
+        incrementVersion();
+        loadCount++;
+      } finally {
+        unlockWrite(stamp);
+      }
+      synchronized (this) {
+        // The logged changes were replaced, the pending save writes the loaded values instead
+        if (pendingSave != null) {
+          pendingSave = new PendingSave(snapshotNode());
+        }
+      }
     } catch (IOException e) {
       throw new ConfigurationException("Error when loading `" + file.getName() + "` configuration",
           e);
     } finally {
       updateTimestamp();
     }
+    dispatchChanges(changes);
+  }
+
+  private FileConfigSection readFile() throws IOException {
+    FileConfigSection loaded = new FileConfigSection(this, "");
+    if (!setting.binaryCache() || !supportsBinaryCache()) {
+      read(loaded);
+      return loaded;
+    }
+
+    // The file is read once, so the cache is keyed by the digest of the bytes that are parsed
+    byte[] content = java.nio.file.Files.readAllBytes(file.toPath());
+    byte[] digest = Files.digest(content);
+    File cacheFile = getCacheFile();
+    if (cacheFile.isFile()) {
+      try {
+        byte[] bytes = java.nio.file.Files.readAllBytes(cacheFile.toPath());
+        BinaryDocument document = BinaryDocument.open(ByteBuffer.wrap(bytes), digest);
+        if (document != null) {
+          document.decodeInto(document.getRoot(), loaded);
+          setting.metrics().recordBinaryCache(true);
+          return loaded;
+        }
+      } catch (IOException | RuntimeException ignored) {
+        // The cache is corrupted, it is replaced after reading the file
+      }
+      loaded = new FileConfigSection(this, "");
+    }
+
+    setting.metrics().recordBinaryCache(false);
+    readingContent.set(content);
+    try {
+      read(loaded);
+    } finally {
+      readingContent.remove();
+    }
+    writeCache(loaded, cacheFile, digest);
+    return loaded;
+  }
+
+  // Maps are the unmaterialized sections of a lazy load
+  private static int countKeys(Map<?, ?> values) {
+    int count = values.size();
+    for (Object val : values.values()) {
+      if (val instanceof FileConfigSection) {
+        count += countKeys(((FileConfigSection) val).values);
+      } else if (val instanceof Map) {
+        count += countKeys((Map<?, ?>) val);
+      }
+    }
+    return count;
+  }
+
+  @SuppressWarnings("ResultOfMethodCallIgnored")
+  private void writeCache(FileConfigSection section, File cacheFile, byte[] digest) {
+    File tempFile = null;
+    try {
+      tempFile = Files.createTempSibling(cacheFile);
+      try (OutputStream out = Files.newBufferedOutputStream(tempFile, false)) {
+        BinarySectionCodec.write(out, section, digest);
+      }
+      Files.moveAtomically(tempFile, cacheFile, false);
+    } catch (IOException | RuntimeException ignored) {
+      // The cache is optional, the file is read again on the next load
+      if (tempFile != null) {
+        tempFile.delete();
+      }
+    }
+  }
+
+  /**
+   * Checks if the values of this {@link FileConfiguration} can be cached in binary form.
+   *
+   * @return Whether or not {@link FileConfigSetting#binaryCache()} applies to this configuration.
+   */
+  protected boolean supportsBinaryCache() {
+    return true;
+  }
+
+  /**
+   * Gets the binary cache file of this {@link FileConfiguration}, a hidden file next to its file.
+   *
+   * @return Binary cache file.
+   * @see FileConfigSetting#binaryCache(boolean)
+   */
+  @NotNull
+  public File getCacheFile() {
+    return new File(file.getAbsoluteFile().getParentFile(), "." + file.getName() + ".cache");
+  }
+
+  /**
+   * Loads this {@link FileConfiguration} from file in the background.
+   *
+   * <p>Values are replaced at once when the file was read, until then the current values are
+   * still readable.
+   *
+   * @return Future completed when this configuration is loaded.
+   * @see #load()
+   */
+  @NotNull
+  public CompletableFuture<Void> loadAsync() {
+    return CompletableFuture.runAsync(this::load);
+  }
+
+  /**
+   * Registers a listener notified of the changes of the values under the specified path when this
+   * {@link FileConfiguration} is loaded.
+   *
+   * <p>After each load, the listener is called once with all the changed values under the path, or
+   * not at all if none of them changed. An empty path listens to the whole configuration. Listeners
+   * are called on the executor of {@link FileConfigSetting#changeExecutor()}, after the new values
+   * are visible. An exception thrown by a listener is passed to the uncaught exception handler of
+   * the thread calling it, and does not prevent the other listeners from being notified.
+   *
+   * <p><b>Notes: </b>Only loading notifies listeners, values set through this API do not.
+   *
+   * @param path     Path to listen to.
+   * @param listener Listener to notify.
+   * @throws IllegalArgumentException Thrown when path or listener is null.
+   * @see #removeChangeListener(ConfigChangeListener)
+   */
+  public void onChange(@NotNull String path, @NotNull ConfigChangeListener listener) {
+    Preconditions.checkNotNull(listener, "Listener cannot be null");
+
+    changeSubscriptions.add(new ChangeSubscription(compile(path), listener));
+  }
+
+  /**
+   * Unregisters the specified listener from all the paths it listens to.
+   *
+   * @param listener Listener to remove.
+   * @throws IllegalArgumentException Thrown when listener is null.
+   */
+  public void removeChangeListener(@NotNull ConfigChangeListener listener) {
+    Preconditions.checkNotNull(listener, "Listener cannot be null");
+
+    changeSubscriptions.removeIf(subscription -> subscription.listener == listener);
+  }
+
+  private void dispatchChanges(List<ConfigChange> changes) {
+    if (changes.isEmpty()) {
+      return;
+    }
+    for (ChangeSubscription subscription : changeSubscriptions) {
+      List<ConfigChange> matched = new ArrayList<>();
+      for (ConfigChange change : changes) {
+        if (change.getPath().startsWith(subscription.path)) {
+          matched.add(change);
+        }
+      }
+      if (!matched.isEmpty()) {
+        List<ConfigChange> view = Collections.unmodifiableList(matched);
+        setting.changeExecutor().execute(() -> notifyListener(subscription.listener, view));
+      }
+    }
+  }
+
+  // A failing listener must not skip the others, nor make a successful load fail
+  private static void notifyListener(ConfigChangeListener listener, List<ConfigChange> changes) {
+    try {
+      listener.onChange(changes);
+    } catch (RuntimeException e) {
+      Thread thread = Thread.currentThread();
+      thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+    }
   }
 
   private void forceSave() {
+    forceSave(null);
+  }
+
+  /**
+   * Writes the specified pending save to file, or the current values if it is null, and marks the
+   * changes written as saved.
+   */
+  private void forceSave(PendingSave pending) {
+    synchronized (saveLock) {
+      long changes;
+      synchronized (this) {
+        // A newer snapshot or a save of the current values made this pending save outdated
+        if (pending != null && pending != pendingSave) {
+          return;
+        }
+        changes = unsavedChanges;
+      }
+
+      ConfigMetrics metrics = setting.metrics();
+      try {
+        long start = metrics != ConfigMetrics.NOOP ? System.nanoTime() : 0;
+        Files.createNewFile(file);
+        writtenChecksum = null;
+        if (pending != null) {
+          write(pending.apply(this));
+        } else {
+          writeLocked();
+        }
+        commitPendingFile();
+        markSaved(changes);
+        if (metrics != ConfigMetrics.NOOP) {
+          metrics.recordSave(System.nanoTime() - start, file.length());
+        }
+        if (setting.reloadType() == ReloadType.AUTOMATIC) {
+          // Subclasses writing without newWriter() or newOutputStream() are read back
+          checksum = writtenChecksum != null ? writtenChecksum.getValue() : Files.checksum(file);
+        }
+      } catch (IOException e) {
+        throw new ConfigurationException(
+            "Error when saving `" + file.getName() + "` configuration", e);
+      } finally {
+        discardPendingFile();
+        updateTimestamp();
+      }
+    }
+  }
+
+  private synchronized void markSaved(long changes) {
+    // Changes made while writing are saved by the next save
+    if (unsavedChanges == changes) {
+      unsaved = false;
+      pendingSave = null;
+    }
+  }
+
+  private void writeLocked() throws IOException {
+    long stamp = readLock();
     try {
-      Files.createNewFile(file);
       write();
-    } catch (IOException e) {
-      throw new ConfigurationException("Error when saving `" + file.getName() + "` configuration",
-          e);
     } finally {
-      updateTimestamp();
+      unlockRead(stamp);
+    }
+  }
+
+  private void commitPendingFile() throws IOException {
+    if (pendingFile == null) {
+      return;
     }
+    Files.moveAtomically(pendingFile, file,
+        setting.saveDurability() == SaveDurability.SYNC);
+    pendingFile = null;
   }
 
+  @SuppressWarnings("ResultOfMethodCallIgnored")
+  private void discardPendingFile() {
+    if (pendingFile == null) {
+      return;
+    }
+    pendingFile.delete();
+    pendingFile = null;
+  }
 
-  private void saveIfNeeded(Object val, Object oldVal) {
-    if (!val.equals(oldVal)) {
+  private void saveOrSchedule() {
+    boolean concurrent = setting.concurrent();
+    if (setting.saveDelay() == 0 || !concurrent && !supportsDetachedWrite()) {
       forceSave();
+      return;
+    }
+
+    long now = System.nanoTime();
+    lastUnsavedChange = now;
+    synchronized (this) {
+      unsavedChanges++;
+      // Without the locks of concurrent mode, the scheduler thread cannot read the values while
+      // they are modified, so the modifying thread takes a snapshot on the first change after a
+      // save, and only logs the next changes. Changes made without logging need a new snapshot.
+      if (!concurrent && (pendingSave == null || pendingSave.sealed || !changeLogged)) {
+        pendingSave = new PendingSave(snapshotNode());
+      }
+      if (!unsaved) {
+        unsaved = true;
+        firstUnsavedChange = now;
+      }
+      if (scheduledSave == null) {
+        scheduledSave = SaveScheduler.schedule(this::saveIfQuiet,
+            TimeUnit.MILLISECONDS.toNanos(setting.saveDelay()));
+      }
+    }
+  }
+
+  private void saveIfQuiet() {
+    PendingSave pending;
+    synchronized (this) {
+      long quietEnd = lastUnsavedChange + TimeUnit.MILLISECONDS.toNanos(setting.saveDelay());
+      long maxEnd = firstUnsavedChange + TimeUnit.MILLISECONDS.toNanos(setting.maxSaveDelay());
+      long remaining = Math.min(quietEnd, maxEnd) - System.nanoTime();
+      if (remaining > 0) {
+        scheduledSave = SaveScheduler.schedule(this::saveIfQuiet, remaining);
+        return;
+      }
+      scheduledSave = null;
+      if (!unsaved) {
+        return;
+      }
+      pending = pendingSave;
+      if (pending != null) {
+        // Next changes start a new pending save, this one is not modified while it is written
+        pending.sealed = true;
+      }
+    }
+
+    try {
+      forceSave(pending);
+    } catch (RuntimeException e) {
+      // Nobody waits for the delayed save, the changes stay unsaved and are written by the next
+      // save, flush or close
+      setting.metrics().recordSaveFailure(e);
+    }
+  }
+
+  private void saveIfNeeded(Object val, Object oldVal) {
+    if (!Objects.equals(val, oldVal)) {
+      saveOrSchedule();
     }
   }
 
   protected void save0(Object... values) {
-    switch (setting.reloadType()) {
+    ReloadType reloadType = setting.reloadType();
+    ConfigMetrics metrics = setting.metrics();
+    try {
+      if (reloadType == ReloadType.MANUAL || metrics == ConfigMetrics.NOOP) {
+        requestSave(reloadType, values);
+        return;
+      }
+      long start = System.nanoTime();
+      requestSave(reloadType, values);
+      metrics.recordSaveRequest(System.nanoTime() - start);
+    } finally {
+      changeLogged = false;
+    }
+  }
+
+  /**
+   * Logs the change of the specified path of the specified section for the pending delayed save,
+   * which is applied to its snapshot by the scheduler thread.
+   *
+   * <p>Does nothing unless a snapshot is waiting for a delayed save, only the modifying thread
+   * calls this method in non-concurrent mode.
+   *
+   * @param section Section the path is relative to.
+   * @param path    Modified path.
+   */
+  void logChange(FileConfigSection section, ConfigPath path) {
+    if (pendingSave == null || path.isEmpty()) {
+      return;
+    }
+    Object value = FileConfigSection.snapshotValue(section.get0(path));
+    ConfigPath rootPath = section.toRootPath(path);
+    synchronized (this) {
+      if (pendingSave != null && !pendingSave.sealed) {
+        pendingSave.changes.add(new PendingChange(rootPath, value));
+        changeLogged = true;
+      }
+    }
+  }
+
+  private void requestSave(ReloadType reloadType, Object... values) {
+    switch (reloadType) {
       case AUTOMATIC:
-        forceSave();
+        saveOrSchedule();
         break;
       case INTELLIGENT:
         // For optimize performance
@@ -113,7 +641,7 @@ public abstract class FileConfiguration extends FileConfigSection implements Con
           saveIfNeeded(values[0], values[1]);
           break;
         }
-        forceSave();
+        saveOrSchedule();
         break;
       case MANUAL:
       default:
@@ -129,24 +657,59 @@ public abstract class FileConfiguration extends FileConfigSection implements Con
    * <p>If it cannot be overwritten or created, an exception will be thrown. After saving, this
    * configuration will update timestamp.
    *
+   * <p>Unless {@link FileConfigSetting#saveDurability()} is {@link SaveDurability#DIRECT}, the file
+   * is replaced atomically, so a failed save leaves the previous content untouched.
+   *
    * <p>This method will save using the system default encoding, or possibly using UTF8.
    */
   public void save() {
+    cancelScheduledSave();
     forceSave();
   }
 
-  private void forceReload() {
+  /**
+   * Saves this {@link FileConfiguration} to file now if it has changes waiting for a delayed save.
+   *
+   * <p>Does nothing if {@link FileConfigSetting#saveDelay()} is 0 or there are no pending changes.
+   *
+   * @see FileConfigSetting#saveDelay(long)
+   */
+  public void flush() {
+    cancelScheduledSave();
+    if (unsaved) {
+      forceSave();
+    }
+  }
+
+  /**
+   * Flushes the pending changes of this {@link FileConfiguration} and stops watching its file.
+   *
+   * <p>This configuration can still be used after closing, but it should be called when the
+   * configuration is no longer needed, for example on shutdown.
+   *
+   * @see #flush()
+   */
+  @Override
+  public void close() {
     try {
-      write();
-      read();
-    } catch (IOException e) {
-      throw new ConfigurationException(
-          "Error when reloading `" + file.getName() + "` configuration", e);
+      flush();
     } finally {
-      updateTimestamp();
+      stopWatching();
     }
   }
 
+  private synchronized void cancelScheduledSave() {
+    if (scheduledSave != null) {
+      scheduledSave.cancel(false);
+      scheduledSave = null;
+    }
+  }
+
+  private void forceReload() {
+    forceSave();
+    load();
+  }
+
   private void reloadIfNeeded() {
     if (hasFileChanged()) {
       forceReload();
@@ -164,28 +727,220 @@ public abstract class FileConfiguration extends FileConfigSection implements Con
     reloadIfNeeded();
   }
 
+  private void reloadIfContentChanged() {
+    long now = System.nanoTime();
+    long interval = TimeUnit.MILLISECONDS.toNanos(setting.reloadInterval());
+    long last = lastChecksumCheck.get();
+    if (checksum != UNKNOWN_CHECKSUM && now - last < interval) {
+      return;
+    }
+    // Only one thread reads the file, the others keep the current values until it is loaded
+    if (!lastChecksumCheck.compareAndSet(last, now)) {
+      return;
+    }
+
+    long current;
+    try {
+      current = Files.checksum(file);
+    } catch (IOException e) {
+      throw new ConfigurationException(
+          "Error when reloading `" + file.getName() + "` configuration", e);
+    }
+    if (current != checksum) {
+      load();
+      checksum = current;
+    }
+  }
+
+  void markFileChanged() {
+    fileChanged = true;
+  }
+
+  private void reloadIfWatchedChanged() {
+    if (!watching) {
+      startWatching();
+    }
+    if (!fileChanged) {
+      return;
+    }
+
+    // Clear the flag before loading, so changes made during loading are not lost
+    fileChanged = false;
+    if (file.lastModified() != timestamp) {
+      load();
+    }
+  }
+
+  private synchronized void startWatching() {
+    if (watching) {
+      return;
+    }
+    FileWatcher.getInstance().register(this);
+    watching = true;
+  }
+
+  private synchronized void stopWatching() {
+    if (!watching) {
+      return;
+    }
+    FileWatcher.getInstance().unregister(this);
+    watching = false;
+  }
+
   protected void reload0() {
-    switch (setting.reloadType()) {
+    ReloadType reloadType = setting.reloadType();
+    ConfigMetrics metrics = setting.metrics();
+    if (reloadType == ReloadType.MANUAL || metrics == ConfigMetrics.NOOP) {
+      checkReload(reloadType);
+      return;
+    }
+    long start = System.nanoTime();
+    long loads = loadCount;
+    checkReload(reloadType);
+    metrics.recordReloadCheck(System.nanoTime() - start, loadCount != loads);
+  }
+
+  private void checkReload(ReloadType reloadType) {
+    switch (reloadType) {
       case AUTOMATIC:
-        forceReload();
+        reloadIfContentChanged();
         break;
       case INTELLIGENT:
         reloadIfNeeded();
         break;
+      case WATCHED:
+        reloadIfWatchedChanged();
+        break;
       case MANUAL:
       default:
         break;
     }
   }
 
+  /**
+   * Acquires the read lock of this {@link FileConfiguration} if {@link
+   * FileConfigSetting#concurrent()} is enabled.
+   *
+   * @return Stamp to release the lock with, or 0 if no lock was acquired.
+   * @see #unlockRead(long)
+   */
+  protected long readLock() {
+    return setting.concurrent() ? lock.readLock() : 0;
+  }
+
+  /**
+   * Releases the read lock acquired by {@link #readLock()}.
+   *
+   * @param stamp Stamp returned by {@link #readLock()}.
+   */
+  protected void unlockRead(long stamp) {
+    if (stamp != 0) {
+      lock.unlockRead(stamp);
+    }
+  }
+
+  /**
+   * Acquires the write lock of this {@link FileConfiguration} if {@link
+   * FileConfigSetting#concurrent()} is enabled.
+   *
+   * @return Stamp to release the lock with, or 0 if no lock was acquired.
+   * @see #unlockWrite(long)
+   */
+  protected long writeLock() {
+    return setting.concurrent() ? lock.writeLock() : 0;
+  }
+
+  /**
+   * Releases the write lock acquired by {@link #writeLock()}.
+   *
+   * @param stamp Stamp returned by {@link #writeLock()}.
+   */
+  protected void unlockWrite(long stamp) {
+    if (stamp != 0) {
+      lock.unlockWrite(stamp);
+    }
+  }
+
+  /**
+   * Gets the number of times this configuration was modified or loaded.
+   *
+   * @return Version of the values.
+   */
+  long getVersion() {
+    return version;
+  }
+
+  /**
+   * Increments the version after the values were modified or loaded, must be called under the
+   * write lock.
+   *
+   * <p>In concurrent mode, the snapshot nodes of the modified sections are rebuilt before the lock
+   * is released, so getters read the published nodes without lock.
+   */
+  void incrementVersion() {
+    version++;
+    if (setting.concurrent()) {
+      snapshotNode();
+    }
+  }
+
+  private void recordPathCacheMiss() {
+    setting.metrics().recordPathCacheMiss();
+  }
+
+  /**
+   * Compiles the specified path using the path separator of this {@link FileConfiguration}.
+   *
+   * <p>Compiled paths are cached, so the path string is only split on the first use.
+   *
+   * @param path Path to compile.
+   * @return Compiled path.
+   */
+  @Override
+  protected @NotNull ConfigPath compilePath(@NotNull String path) {
+    return pathCache.compile(path, setting.pathSeparator());
+  }
+
   @Override
   public @NotNull FileConfigSetting getSetting() {
     return setting;
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Only the sections modified since the last snapshot are copied. The snapshot is consistent
+   * even if it is taken while loading, as long as {@link FileConfigSetting#concurrent()} is
+   * enabled.
+   */
+  @Override
+  public @NotNull Configuration snapshot() {
+    reload0();
+    long stamp = readLock();
+    try {
+      SnapshotSection.Node node = snapshotNode();
+      SnapshotConfiguration snap = lastSnapshot;
+      if (snap == null || snap.node != node) {
+        snap = new SnapshotConfiguration(this, node);
+        lastSnapshot = snap;
+      }
+      return snap;
+    } finally {
+      unlockRead(stamp);
+    }
+  }
+
   protected void convertMapsToSections(Map<?, ?> input, FileConfigSection section) {
+    if (input == null) {
+      return;
+    }
+    boolean lazy = section.isLazyLoad();
     input.forEach((key, val) -> {
       String secKey = key.toString();
+      if (lazy) {
+        section.setLazy0(secKey, val);
+        return;
+      }
       if (val instanceof Map) {
         convertMapsToSections((Map<?, ?>) val, section.createSection0(secKey));
         return;
@@ -208,12 +963,65 @@ public abstract class FileConfiguration extends FileConfigSection implements Con
     return map;
   }
 
+  /**
+   * Opens a new reader to load the data of this {@link FileConfiguration}.
+   *
+   * <p>When the binary cache is missed, the reader reads the content of the file that was already
+   * read to compute its digest, so the cache is written for exactly the parsed content.
+   *
+   * @return Reader to load data from.
+   * @throws FileNotFoundException Thrown when the file does not exist.
+   * @see FileConfigSetting#binaryCache(boolean)
+   */
   protected BufferedReader newReader() throws FileNotFoundException {
+    byte[] content = readingContent.get();
+    if (content != null) {
+      return new BufferedReader(
+          new InputStreamReader(new ByteArrayInputStream(content), StandardCharsets.UTF_8));
+    }
     return Files.newBufferedReader(file);
   }
 
-  protected BufferedWriter newWriter() throws FileNotFoundException {
-    return Files.newBufferedWriter(file);
+  /**
+   * Opens a new writer to save the data of this {@link FileConfiguration}.
+   *
+   * <p>Unless {@link FileConfigSetting#saveDurability()} is {@link SaveDurability#DIRECT}, the
+   * writer writes into a temporary file, which replaces the file after {@link #write()} completes.
+   *
+   * @return Writer to save data into.
+   * @throws IOException Thrown when the file cannot be opened.
+   */
+  protected BufferedWriter newWriter() throws IOException {
+    SaveDurability durability = setting.saveDurability();
+    writtenChecksum = new CRC32();
+    if (durability == SaveDurability.DIRECT) {
+      return Files.newBufferedWriter(file, false, writtenChecksum);
+    }
+
+    discardPendingFile();
+    pendingFile = Files.createTempSibling(file);
+    return Files.newBufferedWriter(pendingFile, durability == SaveDurability.SYNC,
+        writtenChecksum);
+  }
+
+  /**
+   * Opens a new output stream to save the binary data of this {@link FileConfiguration}.
+   *
+   * @return Output stream to save data into.
+   * @throws IOException Thrown when the file cannot be opened.
+   * @see #newWriter()
+   */
+  protected OutputStream newOutputStream() throws IOException {
+    SaveDurability durability = setting.saveDurability();
+    writtenChecksum = new CRC32();
+    if (durability == SaveDurability.DIRECT) {
+      return Files.newBufferedOutputStream(file, false, writtenChecksum);
+    }
+
+    discardPendingFile();
+    pendingFile = Files.createTempSibling(file);
+    return Files.newBufferedOutputStream(pendingFile, durability == SaveDurability.SYNC,
+        writtenChecksum);
   }
 
   /**
@@ -251,4 +1059,46 @@ public abstract class FileConfiguration extends FileConfigSection implements Con
   public String toString() {
     return getClass().getSimpleName() + "[file=" + file.getName() + "]";
   }
+
+  private static final class ChangeSubscription {
+
+    private final ConfigPath path;
+    private final ConfigChangeListener listener;
+
+    private ChangeSubscription(ConfigPath path, ConfigChangeListener listener) {
+      this.path = path;
+      this.listener = listener;
+    }
+  }
+
+  /**
+   * Snapshot taken on the first change after a save, and the changes made after it.
+   */
+  private static final class PendingSave {
+
+    private final SnapshotSection.Node snapshot;
+    private final List<PendingChange> changes = new ArrayList<>();
+    private boolean sealed;
+
+    private PendingSave(SnapshotSection.Node snapshot) {
+      this.snapshot = snapshot;
+    }
+
+    private FileConfigSection apply(FileConfiguration root) {
+      FileConfigSection section = FileConfigSection.detach(root, snapshot);
+      changes.forEach(change -> section.applyChange(change.path, change.value));
+      return section;
+    }
+  }
+
+  private static final class PendingChange {
+
+    private final ConfigPath path;
+    private final Object value;
+
+    private PendingChange(ConfigPath path, Object value) {
+      this.path = path;
+      this.value = value;
+    }
+  }
 }
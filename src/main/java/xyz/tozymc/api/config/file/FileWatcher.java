@@ -0,0 +1,171 @@
+package xyz.tozymc.api.config.file;
+
+import xyz.tozymc.api.config.exception.ConfigurationException;
+
+import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Shared {@link WatchService} that notifies {@link FileConfiguration}s when their files change.
+ *
+ * <p>A single daemon thread watches the parent directories of all registered files, and only flips
+ * the change flag of the configurations whose file was touched. Configurations are weakly
+ * referenced, so a configuration that is no longer used does not need to be unregistered.
+ *
+ * @author TozyMC
+ * @since 1.0
+ */
+final class FileWatcher {
+
+  private static final String THREAD_NAME = "config-file-watcher";
+
+  private final Map<Path, WatchKey> directories = new HashMap<>();
+  private final Map<Path, List<WeakReference<FileConfiguration>>> watched = new HashMap<>();
+  private WatchService service;
+
+  private FileWatcher() {}
+
+  static FileWatcher getInstance() {
+    return Holder.INSTANCE;
+  }
+
+  /**
+   * Starts watching the file of the specified configuration.
+   *
+   * @param configuration Configuration to notify.
+   * @throws ConfigurationException Thrown when the directory of the file cannot be watched.
+   */
+  synchronized void register(FileConfiguration configuration) {
+    Path file = configuration.getFile().toPath().toAbsolutePath().normalize();
+    Path directory = file.getParent();
+    try {
+      if (service == null) {
+        service = FileSystems.getDefault().newWatchService();
+        startThread(service);
+      }
+      if (!directories.containsKey(directory)) {
+        directories.put(directory, directory.register(service,
+            StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY));
+      }
+    } catch (IOException e) {
+      throw new ConfigurationException("Error when watching `" + file.getFileName() + "` file", e);
+    }
+    watched.computeIfAbsent(file, key -> new ArrayList<>()).add(new WeakReference<>(configuration));
+  }
+
+  /**
+   * Stops watching the file of the specified configuration.
+   *
+   * @param configuration Configuration to stop notifying.
+   */
+  synchronized void unregister(FileConfiguration configuration) {
+    Path file = configuration.getFile().toPath().toAbsolutePath().normalize();
+    List<WeakReference<FileConfiguration>> references = watched.get(file);
+    if (references == null) {
+      return;
+    }
+    references.removeIf(reference -> {
+      FileConfiguration config = reference.get();
+      return config == null || config == configuration;
+    });
+    if (references.isEmpty()) {
+      watched.remove(file);
+      cancelIfUnused(file.getParent());
+    }
+  }
+
+  private void startThread(WatchService service) {
+    Thread thread = new Thread(() -> processEvents(service), THREAD_NAME);
+    thread.setDaemon(true);
+    thread.start();
+  }
+
+  private void processEvents(WatchService service) {
+    while (true) {
+      WatchKey key;
+      try {
+        key = service.take();
+      } catch (InterruptedException | ClosedWatchServiceException e) {
+        return;
+      }
+
+      Path directory = (Path) key.watchable();
+      for (WatchEvent<?> event : key.pollEvents()) {
+        if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+          notifyDirectory(directory);
+          continue;
+        }
+        notifyFile(directory.resolve((Path) event.context()));
+      }
+      key.reset();
+    }
+  }
+
+  private synchronized void notifyFile(Path file) {
+    List<WeakReference<FileConfiguration>> references = watched.get(file);
+    if (references == null) {
+      return;
+    }
+    markChanged(references);
+    if (references.isEmpty()) {
+      watched.remove(file);
+      cancelIfUnused(file.getParent());
+    }
+  }
+
+  private synchronized void notifyDirectory(Path directory) {
+    Iterator<Map.Entry<Path, List<WeakReference<FileConfiguration>>>> iterator = watched.entrySet()
+        .iterator();
+    while (iterator.hasNext()) {
+      Map.Entry<Path, List<WeakReference<FileConfiguration>>> entry = iterator.next();
+      if (!directory.equals(entry.getKey().getParent())) {
+        continue;
+      }
+      markChanged(entry.getValue());
+      if (entry.getValue().isEmpty()) {
+        iterator.remove();
+      }
+    }
+    cancelIfUnused(directory);
+  }
+
+  private void markChanged(List<WeakReference<FileConfiguration>> references) {
+    references.removeIf(reference -> {
+      FileConfiguration config = reference.get();
+      if (config == null) {
+        return true;
+      }
+      config.markFileChanged();
+      return false;
+    });
+  }
+
+  private void cancelIfUnused(Path directory) {
+    for (Path file : watched.keySet()) {
+      if (directory.equals(file.getParent())) {
+        return;
+      }
+    }
+    WatchKey key = directories.remove(directory);
+    if (key != null) {
+      key.cancel();
+    }
+  }
+
+  private static final class Holder {
+
+    private static final FileWatcher INSTANCE = new FileWatcher();
+  }
+}
@@ -8,11 +8,11 @@ import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
 import java.io.Writer;
-import java.util.Map;
 
 public class JsonConfiguration extends FileConfiguration {
 
   private final Gson gson = new GsonBuilder().setPrettyPrinting().create();
+  private final JsonSectionCodec codec = new JsonSectionCodec(gson);
 
   public JsonConfiguration(@NotNull File file)
       throws IOException {
@@ -20,19 +20,28 @@ public class JsonConfiguration extends FileConfiguration {
   }
 
   @Override
-  protected void read() throws IOException {
+  protected void read(@NotNull FileConfigSection section) throws IOException {
     try (BufferedReader reader = newReader()) {
-      convertMapsToSections(gson.fromJson(reader, Map.class), this);
+      codec.read(reader, section);
     }
   }
 
   @Override
   protected void write() throws IOException {
-    String data = gson.toJson(convertSectionsTopMap(this));
+    write(this);
+  }
+
+  @Override
+  protected void write(@NotNull FileConfigSection section) throws IOException {
     try (Writer writer = newWriter()) {
-      writer.write(data);
+      codec.write(writer, section);
     } finally {
       updateTimestamp();
     }
   }
+
+  @Override
+  protected boolean supportsDetachedWrite() {
+    return true;
+  }
 }
@@ -0,0 +1,223 @@
+package xyz.tozymc.api.config.file;
+
+import com.google.gson.Gson;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import xyz.tozymc.api.config.exception.ConfigurationException;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.lang.reflect.Array;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Streaming reader and writer of the sections of a {@link JsonConfiguration}.
+ *
+ * <p>Objects of the document are created as {@link FileConfigSection}s while reading, and sections
+ * are written as they are walked, so neither an intermediate {@link Map} tree nor the whole
+ * document as a {@link String} is built. Objects inside arrays are still read as maps, as they are
+ * not sections. If {@link FileConfigSection#isLazyLoad()}, nested objects are read as maps, and
+ * only created as sections on first access.
+ *
+ * <p>Integral numbers are read as {@link Integer}, or {@link Long} and {@link BigInteger} if they
+ * do not fit, other numbers are read as {@link Double}.
+ *
+ * @author TozyMC
+ * @since 1.0
+ */
+final class JsonSectionCodec {
+
+  private final Gson gson;
+
+  JsonSectionCodec(Gson gson) {
+    this.gson = gson;
+  }
+
+  /**
+   * Reads the document of the specified reader into the specified section.
+   *
+   * <p>Like {@link Gson#fromJson(Reader, Class)}, the document is parsed leniently, but it must
+   * not have content after its root value.
+   *
+   * @param reader  Reader of the document.
+   * @param section Section to read into.
+   * @throws IOException            Thrown when the document cannot be read or is malformed.
+   * @throws ConfigurationException Thrown when the root of the document is not an object, or is
+   *                                followed by other content.
+   */
+  void read(Reader reader, FileConfigSection section) throws IOException {
+    JsonReader in = gson.newJsonReader(reader);
+    // Same as Gson#fromJson(Reader, Class)
+    in.setLenient(true);
+    JsonToken token;
+    try {
+      token = in.peek();
+    } catch (EOFException e) {
+      // Empty document
+      return;
+    }
+    if (token == JsonToken.NULL) {
+      in.nextNull();
+    } else if (token == JsonToken.BEGIN_OBJECT) {
+      readSection(in, section);
+    } else {
+      throw new ConfigurationException("Root of the document must be an object");
+    }
+    if (in.peek() != JsonToken.END_DOCUMENT) {
+      throw new ConfigurationException("Document was not fully consumed");
+    }
+  }
+
+  private void readSection(JsonReader in, FileConfigSection section) throws IOException {
+    boolean lazy = section.isLazyLoad();
+    in.beginObject();
+    while (in.hasNext()) {
+      String key = in.nextName();
+      if (section.values.containsKey(key)) {
+        throw new ConfigurationException("Found duplicate key " + key);
+      }
+      if (in.peek() != JsonToken.BEGIN_OBJECT) {
+        section.set0(key, readValue(in));
+      } else if (lazy) {
+        section.setLazy0(key, readLazySection(in));
+      } else {
+        readSection(in, section.createSection0(key));
+      }
+    }
+    in.endObject();
+  }
+
+  // Same content as a section, null values are dropped like set0 does
+  private Map<String, Object> readLazySection(JsonReader in) throws IOException {
+    Map<String, Object> map = new LinkedHashMap<>();
+    in.beginObject();
+    while (in.hasNext()) {
+      String key = in.nextName();
+      if (map.containsKey(key)) {
+        throw new ConfigurationException("Found duplicate key " + key);
+      }
+      Object val = in.peek() == JsonToken.BEGIN_OBJECT ? readLazySection(in) : readValue(in);
+      if (val != null) {
+        map.put(key, val);
+      }
+    }
+    in.endObject();
+    return map;
+  }
+
+  private Object readValue(JsonReader in) throws IOException {
+    switch (in.peek()) {
+      case STRING:
+        return in.nextString();
+      case NUMBER:
+        return parseNumber(in.nextString());
+      case BOOLEAN:
+        return in.nextBoolean();
+      case NULL:
+        in.nextNull();
+        return null;
+      case BEGIN_ARRAY:
+        List<Object> list = new ArrayList<>();
+        in.beginArray();
+        while (in.hasNext()) {
+          list.add(readValue(in));
+        }
+        in.endArray();
+        return list;
+      case BEGIN_OBJECT:
+        Map<String, Object> map = new LinkedHashMap<>();
+        in.beginObject();
+        while (in.hasNext()) {
+          String key = in.nextName();
+          if (map.containsKey(key)) {
+            throw new ConfigurationException("Found duplicate key " + key);
+          }
+          map.put(key, readValue(in));
+        }
+        in.endObject();
+        return map;
+      default:
+        throw new ConfigurationException("Unexpected token " + in.peek());
+    }
+  }
+
+  private static Number parseNumber(String number) {
+    for (int i = 0; i < number.length(); i++) {
+      char c = number.charAt(i);
+      if (c == '.' || c == 'e' || c == 'E' || c == 'N' || c == 'I') {
+        return Double.valueOf(number);
+      }
+    }
+
+    try {
+      return Integer.valueOf(number);
+    } catch (NumberFormatException e) {
+      try {
+        return Long.valueOf(number);
+      } catch (NumberFormatException ex) {
+        return new BigInteger(number);
+      }
+    }
+  }
+
+  /**
+   * Writes the specified section as a document into the specified writer.
+   *
+   * @param writer  Writer of the document.
+   * @param section Section to write.
+   * @throws IOException Thrown when the document cannot be written.
+   */
+  void write(Writer writer, FileConfigSection section) throws IOException {
+    JsonWriter out = gson.newJsonWriter(writer);
+    writeMap(out, section.values);
+    out.flush();
+  }
+
+  private void writeMap(JsonWriter out, Map<?, ?> map) throws IOException {
+    out.beginObject();
+    for (Map.Entry<?, ?> entry : map.entrySet()) {
+      out.name(String.valueOf(entry.getKey()));
+      writeValue(out, entry.getValue());
+    }
+    out.endObject();
+  }
+
+  private void writeValue(JsonWriter out, Object value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+    } else if (value instanceof String) {
+      out.value((String) value);
+    } else if (value instanceof Boolean) {
+      out.value((boolean) value);
+    } else if (value instanceof Number) {
+      out.value((Number) value);
+    } else if (value instanceof Character) {
+      out.value(value.toString());
+    } else if (value instanceof FileConfigSection) {
+      writeMap(out, ((FileConfigSection) value).values);
+    } else if (value instanceof Map) {
+      writeMap(out, (Map<?, ?>) value);
+    } else if (value instanceof Iterable) {
+      out.beginArray();
+      for (Object element : (Iterable<?>) value) {
+        writeValue(out, element);
+      }
+      out.endArray();
+    } else if (value.getClass().isArray()) {
+      out.beginArray();
+      for (int i = 0, length = Array.getLength(value); i < length; i++) {
+        writeValue(out, Array.get(value, i));
+      }
+      out.endArray();
+    } else {
+      gson.toJson(value, value.getClass(), out);
+    }
+  }
+}
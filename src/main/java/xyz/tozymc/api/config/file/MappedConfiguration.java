@@ -0,0 +1,102 @@
+package xyz.tozymc.api.config.file;
+
+import org.jetbrains.annotations.NotNull;
+import xyz.tozymc.api.config.ConfigPath;
+import xyz.tozymc.api.config.Configuration;
+import xyz.tozymc.api.config.setting.ConfigSetting;
+import xyz.tozymc.api.config.util.PathCache;
+import xyz.tozymc.api.util.Preconditions;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A read-only {@link Configuration} backed by a memory-mapped file written by {@link
+ * BinaryConfiguration}.
+ *
+ * <p>Opening only maps the file and reads its header. Values are looked up through the index of
+ * each section and decoded when they are read, so the heap footprint does not depend on the size
+ * of the file, which makes it suitable for large read-mostly data such as catalogs or localization
+ * tables.
+ *
+ * <p>Sections are views created on access, and values are decoded again on every read, so values
+ * read often should be kept by the caller. This configuration is immutable and can be read by
+ * multiple threads.
+ *
+ * <p><b>Notes: </b>The file must not be modified while it is mapped, write it to a new file with
+ * {@link BinaryConfiguration} and open it again instead.
+ *
+ * @author TozyMC
+ * @since 1.0
+ */
+public class MappedConfiguration extends MappedSection implements Configuration {
+
+  private final File file;
+  private final ConfigSetting setting = new MappedConfigSetting(this);
+  private final PathCache pathCache = new PathCache();
+
+  /**
+   * Constructs new {@link MappedConfiguration} by mapping the specified file.
+   *
+   * @param file Binary file written by {@link BinaryConfiguration}.
+   * @throws IOException Thrown when the file cannot be mapped or is not a binary configuration.
+   */
+  public MappedConfiguration(@NotNull File file) throws IOException {
+    super(BinaryDocument.open(map(Preconditions.checkNotNull(file, "File cannot be null")), null));
+    this.file = file;
+  }
+
+  private static MappedByteBuffer map(File file) throws IOException {
+    try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+      if (channel.size() > Integer.MAX_VALUE) {
+        throw new IOException("File is too large to be mapped");
+      }
+      // The mapping stays valid after the channel is closed
+      return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+    }
+  }
+
+  @Override
+  protected @NotNull ConfigPath compilePath(@NotNull String path) {
+    return pathCache.compile(path, setting.pathSeparator());
+  }
+
+  @Override
+  public @NotNull ConfigSetting getSetting() {
+    return setting;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>A {@link MappedConfiguration} is immutable, so it is its own snapshot.
+   */
+  @Override
+  public @NotNull Configuration snapshot() {
+    return this;
+  }
+
+  /**
+   * Gets the mapped file.
+   *
+   * @return Mapped file.
+   */
+  public File getFile() {
+    return file;
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + "[file=" + file.getName() + "]";
+  }
+
+  private static final class MappedConfigSetting extends ConfigSetting {
+
+    private MappedConfigSetting(Configuration configuration) {
+      super(configuration);
+    }
+  }
+}
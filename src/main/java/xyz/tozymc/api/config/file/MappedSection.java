@@ -0,0 +1,202 @@
+package xyz.tozymc.api.config.file;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import xyz.tozymc.api.config.AbstractConfigSection;
+import xyz.tozymc.api.config.ConfigPath;
+import xyz.tozymc.api.config.ConfigSection;
+import xyz.tozymc.api.config.Configuration;
+import xyz.tozymc.api.config.exception.ConfigurationException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Read-only section of a {@link MappedConfiguration}, decoded on demand.
+ *
+ * <p>A section only holds the offset of its entries in the mapped file. Getters look the value up
+ * in the file and decode it on every call, so nothing is kept on the heap.
+ *
+ * @author TozyMC
+ * @see MappedConfiguration
+ * @since 1.0
+ */
+class MappedSection extends AbstractConfigSection {
+
+  final BinaryDocument document;
+  private final int offset;
+  private final MappedSection parent;
+  private final MappedConfiguration root;
+  private final String name, path;
+
+  MappedSection(@NotNull BinaryDocument document) {
+    if (!(this instanceof MappedConfiguration)) {
+      throw new ConfigurationException("");
+    }
+
+    this.document = document;
+    this.offset = document.getRoot();
+    this.parent = null;
+    this.root = (MappedConfiguration) this;
+    this.name = "";
+    this.path = "";
+  }
+
+  private MappedSection(@NotNull MappedSection parent, @NotNull String name, int offset) {
+    this.document = parent.document;
+    this.offset = offset;
+    this.parent = parent;
+    this.root = parent.root;
+    this.name = name;
+    this.path = parent.path.isEmpty() ? name
+        : parent.path + root.getSetting().pathSeparator() + name;
+  }
+
+  @Override
+  protected @NotNull ConfigPath compilePath(@NotNull String path) {
+    return root.compilePath(path);
+  }
+
+  @Override
+  protected @Nullable Object getValue(@NotNull ConfigPath path) {
+    if (path.isEmpty()) {
+      return null;
+    }
+
+    int value = document.find(offset, path);
+    if (value == -1) {
+      return null;
+    }
+    return document.getType(value) == BinarySectionCodec.SECTION ? view(path)
+        : document.decode(value);
+  }
+
+  @Override
+  protected boolean containsValue(@NotNull ConfigPath path) {
+    return path.isEmpty() || document.find(offset, path) != -1;
+  }
+
+  private MappedSection view(ConfigPath path) {
+    MappedSection section = this;
+    for (int i = 0; i < path.length(); i++) {
+      String segment = path.segment(i);
+      int value = document.find(section.offset, segment.getBytes(StandardCharsets.UTF_8));
+      section = new MappedSection(section, segment, value + 1);
+    }
+    return section;
+  }
+
+  @Override
+  public @NotNull Optional<?> set(@NotNull String path, Object value) {
+    throw new UnsupportedOperationException("Mapped configuration cannot be modified");
+  }
+
+  @Override
+  public @NotNull ConfigSection createSection(@NotNull String path) {
+    throw new UnsupportedOperationException("Mapped configuration cannot be modified");
+  }
+
+  @Override
+  public @NotNull ConfigSection createSection(@NotNull String path, @NotNull Map<?, ?> values) {
+    throw new UnsupportedOperationException("Mapped configuration cannot be modified");
+  }
+
+  private void mapChildrenKeys(Set<String> output, int section, String prefix, boolean deep) {
+    char separator = root.getSetting().pathSeparator();
+    for (int i = 0, count = document.getEntryCount(section); i < count; i++) {
+      String key = document.getEntryKey(section, i);
+      output.add(prefix + key);
+
+      int value = document.getEntryValue(section, i);
+      if (deep && document.getType(value) == BinarySectionCodec.SECTION) {
+        mapChildrenKeys(output, value + 1, prefix + key + separator, true);
+      }
+    }
+  }
+
+  private void mapChildrenValues(Map<String, Object> output, MappedSection section,
+      String prefix, boolean deep) {
+    char separator = root.getSetting().pathSeparator();
+    for (int i = 0, count = document.getEntryCount(section.offset); i < count; i++) {
+      String key = document.getEntryKey(section.offset, i);
+      int value = document.getEntryValue(section.offset, i);
+      if (document.getType(value) != BinarySectionCodec.SECTION) {
+        output.put(prefix + key, document.decode(value));
+        continue;
+      }
+      MappedSection child = new MappedSection(section, key, value + 1);
+      output.put(prefix + key, child);
+
+      if (deep) {
+        mapChildrenValues(output, child, prefix + key + separator, true);
+      }
+    }
+  }
+
+  @Override
+  protected @NotNull Object[] childEntries() {
+    int count = document.getEntryCount(offset);
+    Object[] entries = new Object[count * 2];
+    for (int i = 0; i < count; i++) {
+      String key = document.getEntryKey(offset, i);
+      int value = document.getEntryValue(offset, i);
+      entries[2 * i] = key;
+      entries[2 * i + 1] = document.getType(value) == BinarySectionCodec.SECTION
+          ? new MappedSection(this, key, value + 1) : document.decode(value);
+    }
+    return entries;
+  }
+
+  @Override
+  public @NotNull Set<String> getKeys() {
+    return getKeys(false);
+  }
+
+  @Override
+  public @NotNull Set<String> getKeys(boolean deep) {
+    Set<String> result = new LinkedHashSet<>();
+    mapChildrenKeys(result, offset, "", deep);
+    return result;
+  }
+
+  @Override
+  public @NotNull Map<String, ?> toFlatMap() {
+    return toFlatMap(false);
+  }
+
+  @Override
+  public @NotNull Map<String, ?> toFlatMap(boolean deep) {
+    Map<String, Object> result = new LinkedHashMap<>();
+    mapChildrenValues(result, this, "", deep);
+    return result;
+  }
+
+  @Override
+  public @NotNull String getName() {
+    return name;
+  }
+
+  @Override
+  public @NotNull String getFullPath() {
+    return path;
+  }
+
+  @Override
+  public @Nullable ConfigSection getParent() {
+    return parent;
+  }
+
+  @Override
+  public @NotNull Configuration getRoot() {
+    return root;
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + "[path=" + path + ", root=" + root + "]";
+  }
+}
@@ -0,0 +1,321 @@
+package xyz.tozymc.api.config.file;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * Insertion ordered map of section values that stores integers, longs, doubles and booleans
+ * unboxed.
+ *
+ * <p>Entries are kept in parallel arrays, in insertion order, and found by an open addressing
+ * index. There is no entry object per value, and primitive values are only boxed when read as an
+ * {@link Object}. The typed accessors taking an entry index read them without boxing.
+ *
+ * <p>This map is not thread-safe.
+ *
+ * @author TozyMC
+ * @see xyz.tozymc.api.config.file.setting.FileConfigSetting#primitiveValues()
+ * @since 1.0
+ */
+final class PrimitiveValueMap extends AbstractMap<String, Object> {
+
+  private static final int INITIAL_CAPACITY = 8;
+  private static final byte REFERENCE = 0, BOOLEAN = 1, INT = 2, LONG = 3, DOUBLE = 4;
+
+  private String[] keys = new String[INITIAL_CAPACITY];
+  private Object[] references = new Object[INITIAL_CAPACITY];
+  private long[] bits = new long[INITIAL_CAPACITY];
+  private byte[] types = new byte[INITIAL_CAPACITY];
+  // Entry index + 1 of each bucket, 0 marks an empty bucket
+  private int[] buckets = new int[INITIAL_CAPACITY * 2];
+  private int end, size;
+
+  private static int hash(Object key) {
+    int h = key.hashCode();
+    return h ^ (h >>> 16);
+  }
+
+  /**
+   * Gets the index of the entry with the specified key.
+   *
+   * @param key Key of the entry.
+   * @return Index of the entry, or -1 if not found.
+   */
+  int indexOf(Object key) {
+    if (key == null) {
+      return -1;
+    }
+    int mask = buckets.length - 1;
+    for (int i = hash(key) & mask; buckets[i] != 0; i = (i + 1) & mask) {
+      int index = buckets[i] - 1;
+      String k = keys[index];
+      if (k == key || k.equals(key)) {
+        return index;
+      }
+    }
+    return -1;
+  }
+
+  boolean isNumber(int index) {
+    return types[index] >= INT;
+  }
+
+  boolean isBoolean(int index) {
+    return types[index] == BOOLEAN;
+  }
+
+  /**
+   * Gets the numeric value of the entry at the specified index, converted to int.
+   *
+   * @param index Index of the entry, must hold a number.
+   * @return Value as int.
+   */
+  int intAt(int index) {
+    return types[index] == DOUBLE ? (int) Double.longBitsToDouble(bits[index]) : (int) bits[index];
+  }
+
+  /**
+   * Gets the numeric value of the entry at the specified index, converted to long.
+   *
+   * @param index Index of the entry, must hold a number.
+   * @return Value as long.
+   */
+  long longAt(int index) {
+    return types[index] == DOUBLE ? (long) Double.longBitsToDouble(bits[index]) : bits[index];
+  }
+
+  /**
+   * Gets the numeric value of the entry at the specified index, converted to double.
+   *
+   * @param index Index of the entry, must hold a number.
+   * @return Value as double.
+   */
+  double doubleAt(int index) {
+    return types[index] == DOUBLE ? Double.longBitsToDouble(bits[index]) : bits[index];
+  }
+
+  boolean booleanAt(int index) {
+    return bits[index] != 0;
+  }
+
+  private Object valueAt(int index) {
+    switch (types[index]) {
+      case BOOLEAN:
+        return bits[index] != 0;
+      case INT:
+        return (int) bits[index];
+      case LONG:
+        return bits[index];
+      case DOUBLE:
+        return Double.longBitsToDouble(bits[index]);
+      default:
+        return references[index];
+    }
+  }
+
+  private void store(int index, Object value) {
+    references[index] = null;
+    if (value instanceof Integer) {
+      types[index] = INT;
+      bits[index] = (Integer) value;
+    } else if (value instanceof Long) {
+      types[index] = LONG;
+      bits[index] = (Long) value;
+    } else if (value instanceof Double) {
+      types[index] = DOUBLE;
+      bits[index] = Double.doubleToRawLongBits((Double) value);
+    } else if (value instanceof Boolean) {
+      types[index] = BOOLEAN;
+      bits[index] = (Boolean) value ? 1 : 0;
+    } else {
+      types[index] = REFERENCE;
+      bits[index] = 0;
+      references[index] = value;
+    }
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return indexOf(key) != -1;
+  }
+
+  @Override
+  public Object get(Object key) {
+    int index = indexOf(key);
+    return index != -1 ? valueAt(index) : null;
+  }
+
+  @Override
+  public Object put(String key, Object value) {
+    int index = indexOf(key);
+    if (index != -1) {
+      Object oldVal = valueAt(index);
+      store(index, value);
+      return oldVal;
+    }
+
+    if (end == keys.length) {
+      grow();
+    }
+    index = end++;
+    keys[index] = key;
+    store(index, value);
+    insertBucket(index);
+    size++;
+    return null;
+  }
+
+  @Override
+  public Object remove(Object key) {
+    int index = indexOf(key);
+    if (index == -1) {
+      return null;
+    }
+
+    Object oldVal = valueAt(index);
+    removeBucket(index);
+    keys[index] = null;
+    references[index] = null;
+    size--;
+    return oldVal;
+  }
+
+  @Override
+  public void clear() {
+    Arrays.fill(keys, 0, end, null);
+    Arrays.fill(references, 0, end, null);
+    Arrays.fill(buckets, 0);
+    end = size = 0;
+  }
+
+  @Override
+  public void forEach(BiConsumer<? super String, ? super Object> action) {
+    for (int i = 0; i < end; i++) {
+      if (keys[i] != null) {
+        action.accept(keys[i], valueAt(i));
+      }
+    }
+  }
+
+  @Override
+  public @NotNull Set<Entry<String, Object>> entrySet() {
+    return new EntrySet();
+  }
+
+  private void insertBucket(int index) {
+    int mask = buckets.length - 1;
+    int i = hash(keys[index]) & mask;
+    while (buckets[i] != 0) {
+      i = (i + 1) & mask;
+    }
+    buckets[i] = index + 1;
+  }
+
+  private void removeBucket(int index) {
+    int mask = buckets.length - 1;
+    int i = hash(keys[index]) & mask;
+    while (buckets[i] != index + 1) {
+      i = (i + 1) & mask;
+    }
+
+    // Shifts back the following entries of the probe sequence, so no tombstone is needed
+    for (int next = (i + 1) & mask; buckets[next] != 0; next = (next + 1) & mask) {
+      int home = hash(keys[buckets[next] - 1]) & mask;
+      if (((next - home) & mask) >= ((next - i) & mask)) {
+        buckets[i] = buckets[next];
+        i = next;
+      }
+    }
+    buckets[i] = 0;
+  }
+
+  private void grow() {
+    // Only compacts the removed entries if that frees enough space
+    int capacity = size < end * 3 / 4 ? keys.length : keys.length * 2;
+    String[] newKeys = new String[capacity];
+    Object[] newReferences = new Object[capacity];
+    long[] newBits = new long[capacity];
+    byte[] newTypes = new byte[capacity];
+
+    int newEnd = 0;
+    for (int i = 0; i < end; i++) {
+      if (keys[i] == null) {
+        continue;
+      }
+      newKeys[newEnd] = keys[i];
+      newReferences[newEnd] = references[i];
+      newBits[newEnd] = bits[i];
+      newTypes[newEnd] = types[i];
+      newEnd++;
+    }
+
+    keys = newKeys;
+    references = newReferences;
+    bits = newBits;
+    types = newTypes;
+    end = newEnd;
+    buckets = new int[capacity * 2];
+    for (int i = 0; i < end; i++) {
+      insertBucket(i);
+    }
+  }
+
+  private final class EntrySet extends AbstractSet<Entry<String, Object>> {
+
+    @Override
+    public @NotNull Iterator<Entry<String, Object>> iterator() {
+      return new Iterator<Entry<String, Object>>() {
+        private int next = advance(0);
+        private int last = -1;
+
+        private int advance(int from) {
+          while (from < end && keys[from] == null) {
+            from++;
+          }
+          return from;
+        }
+
+        @Override
+        public boolean hasNext() {
+          return next < end;
+        }
+
+        @Override
+        public Entry<String, Object> next() {
+          if (next >= end) {
+            throw new NoSuchElementException();
+          }
+          last = next;
+          next = advance(next + 1);
+          return new SimpleImmutableEntry<>(keys[last], valueAt(last));
+        }
+
+        @Override
+        public void remove() {
+          if (last == -1) {
+            throw new IllegalStateException();
+          }
+          PrimitiveValueMap.this.remove(keys[last]);
+          last = -1;
+        }
+      };
+    }
+
+    @Override
+    public int size() {
+      return size;
+    }
+  }
+}
@@ -0,0 +1,41 @@
+package xyz.tozymc.api.config.file;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Shared scheduler that runs the delayed saves of {@link FileConfiguration}s.
+ *
+ * <p>All configurations share a single daemon thread, so pending saves are lost if the JVM exits
+ * without calling {@link FileConfiguration#flush()} or {@link FileConfiguration#close()}.
+ *
+ * @author TozyMC
+ * @since 1.0
+ */
+final class SaveScheduler {
+
+  private static final String THREAD_NAME = "config-save-scheduler";
+
+  private SaveScheduler() {}
+
+  static ScheduledFuture<?> schedule(Runnable task, long delayNanos) {
+    return Holder.EXECUTOR.schedule(task, delayNanos, TimeUnit.NANOSECONDS);
+  }
+
+  private static ScheduledExecutorService newExecutor() {
+    ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, task -> {
+      Thread thread = new Thread(task, THREAD_NAME);
+      thread.setDaemon(true);
+      return thread;
+    });
+    executor.setRemoveOnCancelPolicy(true);
+    return executor;
+  }
+
+  private static final class Holder {
+
+    private static final ScheduledExecutorService EXECUTOR = newExecutor();
+  }
+}
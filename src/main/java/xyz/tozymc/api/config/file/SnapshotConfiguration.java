@@ -0,0 +1,36 @@
+package xyz.tozymc.api.config.file;
+
+import org.jetbrains.annotations.NotNull;
+import xyz.tozymc.api.config.Configuration;
+import xyz.tozymc.api.config.file.setting.FileConfigSetting;
+
+/**
+ * Root of a snapshot taken by {@link FileConfiguration#snapshot()}.
+ *
+ * @author TozyMC
+ * @since 1.0
+ */
+final class SnapshotConfiguration extends SnapshotSection implements Configuration {
+
+  private final FileConfiguration source;
+
+  SnapshotConfiguration(@NotNull FileConfiguration source, @NotNull Node node) {
+    super(node);
+    this.source = source;
+  }
+
+  @NotNull
+  FileConfiguration getSource() {
+    return source;
+  }
+
+  @Override
+  public @NotNull Configuration snapshot() {
+    return this;
+  }
+
+  @Override
+  public @NotNull FileConfigSetting getSetting() {
+    return source.getSetting();
+  }
+}
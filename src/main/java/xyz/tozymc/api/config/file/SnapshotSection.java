@@ -0,0 +1,252 @@
+package xyz.tozymc.api.config.file;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import xyz.tozymc.api.config.AbstractConfigSection;
+import xyz.tozymc.api.config.ConfigPath;
+import xyz.tozymc.api.config.ConfigSection;
+import xyz.tozymc.api.config.Configuration;
+import xyz.tozymc.api.config.exception.ConfigurationException;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Immutable view of a {@link FileConfigSection} at the time its snapshot was taken.
+ *
+ * <p>The values are kept in {@link Node}s, which are shared between snapshots as long as their
+ * section is not modified. Getters do not lock and never reload the configuration.
+ *
+ * @author TozyMC
+ * @see Configuration#snapshot()
+ * @since 1.0
+ */
+class SnapshotSection extends AbstractConfigSection {
+
+  final Node node;
+  private final SnapshotSection parent;
+  private final SnapshotConfiguration root;
+
+  SnapshotSection(@NotNull Node node) {
+    if (!(this instanceof SnapshotConfiguration)) {
+      throw new ConfigurationException("");
+    }
+
+    this.node = node;
+    this.parent = null;
+    this.root = (SnapshotConfiguration) this;
+  }
+
+  private SnapshotSection(@NotNull Node node, @NotNull SnapshotSection parent) {
+    this.node = node;
+    this.parent = parent;
+    this.root = parent.root;
+  }
+
+  @Override
+  protected @NotNull ConfigPath compilePath(@NotNull String path) {
+    return root.getSource().compilePath(path);
+  }
+
+  @Override
+  protected @Nullable Object getValue(@NotNull ConfigPath path) {
+    Object val = node.get(path);
+    return val instanceof Node ? view(path) : val;
+  }
+
+  @Override
+  protected boolean containsValue(@NotNull ConfigPath path) {
+    int last = path.length() - 1;
+    Node current = node;
+    for (int i = 0; i < last; i++) {
+      current = current.getChild(path.segment(i));
+      if (current == null) {
+        return false;
+      }
+    }
+    return last == -1 || current.values.containsKey(path.segment(last));
+  }
+
+  private SnapshotSection view(ConfigPath path) {
+    SnapshotSection section = this;
+    for (int i = 0; i < path.length(); i++) {
+      section = new SnapshotSection((Node) section.node.values.get(path.segment(i)), section);
+    }
+    return section;
+  }
+
+  @Override
+  public @NotNull Optional<?> set(@NotNull String path, Object value) {
+    throw new UnsupportedOperationException("Snapshot cannot be modified");
+  }
+
+  @Override
+  public @NotNull ConfigSection createSection(@NotNull String path) {
+    throw new UnsupportedOperationException("Snapshot cannot be modified");
+  }
+
+  @Override
+  public @NotNull ConfigSection createSection(@NotNull String path, @NotNull Map<?, ?> values) {
+    throw new UnsupportedOperationException("Snapshot cannot be modified");
+  }
+
+  private void mapChildrenKeys(Set<String> output, Node node, String prefix, boolean deep) {
+    char separator = root.getSetting().pathSeparator();
+    node.values.forEach((key, value) -> {
+      output.add(prefix + key);
+
+      if (deep && value instanceof Node) {
+        mapChildrenKeys(output, (Node) value, prefix + key + separator, true);
+      }
+    });
+  }
+
+  private void mapChildrenValues(Map<String, Object> output, SnapshotSection section,
+      String prefix, boolean deep) {
+    char separator = root.getSetting().pathSeparator();
+    section.node.values.forEach((key, value) -> {
+      if (!(value instanceof Node)) {
+        output.put(prefix + key, value);
+        return;
+      }
+      SnapshotSection child = new SnapshotSection((Node) value, section);
+      output.put(prefix + key, child);
+
+      if (deep) {
+        mapChildrenValues(output, child, prefix + key + separator, true);
+      }
+    });
+  }
+
+  @Override
+  protected @NotNull Object[] childEntries() {
+    Object[] entries = new Object[node.values.size() * 2];
+    int i = 0;
+    for (Map.Entry<String, Object> entry : node.values.entrySet()) {
+      Object value = entry.getValue();
+      entries[i++] = entry.getKey();
+      entries[i++] = value instanceof Node ? new SnapshotSection((Node) value, this) : value;
+    }
+    return entries;
+  }
+
+  @Override
+  public @NotNull Set<String> getKeys() {
+    return getKeys(false);
+  }
+
+  @Override
+  public @NotNull Set<String> getKeys(boolean deep) {
+    Set<String> result = new LinkedHashSet<>();
+    mapChildrenKeys(result, node, "", deep);
+    return result;
+  }
+
+  @Override
+  public @NotNull Map<String, ?> toFlatMap() {
+    return toFlatMap(false);
+  }
+
+  @Override
+  public @NotNull Map<String, ?> toFlatMap(boolean deep) {
+    Map<String, Object> result = new LinkedHashMap<>();
+    mapChildrenValues(result, this, "", deep);
+    return result;
+  }
+
+  @Override
+  public @NotNull String getName() {
+    return node.name;
+  }
+
+  @Override
+  public @NotNull String getFullPath() {
+    return node.path;
+  }
+
+  @Override
+  public @Nullable ConfigSection getParent() {
+    return parent;
+  }
+
+  @Override
+  public @NotNull Configuration getRoot() {
+    return root;
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + "[path=" + node.path + ", root=" + root.getSource() + "]";
+  }
+
+  /**
+   * Immutable values of a section, child sections are stored as nodes too.
+   */
+  static final class Node {
+
+    final String name, path;
+    final Map<String, Object> values;
+
+    Node(String name, String path, Map<String, Object> values) {
+      this.name = name;
+      this.path = path;
+      this.values = Collections.unmodifiableMap(values);
+    }
+
+    /**
+     * Gets the value of the specified path relative to this node, child sections are returned as
+     * nodes.
+     *
+     * @param path Path of the value.
+     * @return Value of the path, or null if not found.
+     */
+    Object get(ConfigPath path) {
+      if (path.isEmpty()) {
+        return null;
+      }
+
+      int last = path.length() - 1;
+      Node current = this;
+      for (int i = 0; i < last; i++) {
+        current = current.getChild(path.segment(i));
+        if (current == null) {
+          return null;
+        }
+      }
+      return current.values.get(path.segment(last));
+    }
+
+    /**
+     * Checks if the specified path relative to this node has a value, a value in the way of the
+     * path is not an error.
+     *
+     * @param path Path to check.
+     * @return Whether or not the path has a value.
+     */
+    boolean contains(ConfigPath path) {
+      int last = path.length() - 1;
+      Node current = this;
+      for (int i = 0; i < last; i++) {
+        Object val = current.values.get(path.segment(i));
+        if (!(val instanceof Node)) {
+          return false;
+        }
+        current = (Node) val;
+      }
+      return last == -1 || current.values.containsKey(path.segment(last));
+    }
+
+    private Node getChild(String key) {
+      Object val = values.get(key);
+      if (val != null && !(val instanceof Node)) {
+        throw new ConfigurationException(
+            (path.isEmpty() ? "" : path + ".") + key + " is not a StorageSection");
+      }
+      return (Node) val;
+    }
+  }
+}
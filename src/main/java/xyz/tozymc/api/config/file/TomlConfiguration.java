@@ -2,6 +2,7 @@ package xyz.tozymc.api.config.file;
 
 import com.moandjiezana.toml.Toml;
 import com.moandjiezana.toml.TomlWriter;
+import org.jetbrains.annotations.NotNull;
 
 import java.io.File;
 import java.io.IOException;
@@ -17,21 +18,31 @@ public class TomlConfiguration extends FileConfiguration {
   }
 
   @Override
-  protected void read() throws IOException {
+  protected void read(@NotNull FileConfigSection section) throws IOException {
     Toml toml;
     try (Reader reader = newReader()) {
       toml = this.toml.read(reader);
     }
-    convertMapsToSections(toml.toMap(), this);
+    convertMapsToSections(toml.toMap(), section);
   }
 
   @Override
   protected void write() throws IOException {
+    write(this);
+  }
+
+  @Override
+  protected void write(@NotNull FileConfigSection section) throws IOException {
     TomlWriter tomlWriter = new TomlWriter();
     try (Writer writer = newWriter()) {
-      tomlWriter.write(convertSectionsTopMap(this), writer);
+      tomlWriter.write(convertSectionsTopMap(section), writer);
     } finally {
       updateTimestamp();
     }
   }
+
+  @Override
+  protected boolean supportsDetachedWrite() {
+    return true;
+  }
 }
@@ -1,5 +1,7 @@
 package xyz.tozymc.api.config.file;
 
+import org.jetbrains.annotations.NotNull;
+
 import java.io.File;
 import java.io.IOException;
 import java.io.Reader;
@@ -12,19 +14,28 @@ public class YamlConfiguration extends FileConfiguration {
   }
 
   @Override
-  protected void read() throws IOException {
+  protected void read(@NotNull FileConfigSection section) throws IOException {
     try (Reader reader = newReader()) {
-      convertMapsToSections(YamlProvider.load(reader), this);
+      YamlProvider.load(reader, section);
     }
   }
 
   @Override
   protected void write() throws IOException {
-    String data = YamlProvider.dump(convertSectionsTopMap(this));
+    write(this);
+  }
+
+  @Override
+  protected void write(@NotNull FileConfigSection section) throws IOException {
     try (Writer writer = newWriter()) {
-      writer.write(data);
+      YamlProvider.dump(section, writer);
     } finally {
       updateTimestamp();
     }
   }
+
+  @Override
+  protected boolean supportsDetachedWrite() {
+    return true;
+  }
 }
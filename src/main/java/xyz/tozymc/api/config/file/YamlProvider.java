@@ -2,12 +2,15 @@ package xyz.tozymc.api.config.file;
 
 import org.snakeyaml.engine.v2.api.Dump;
 import org.snakeyaml.engine.v2.api.DumpSettings;
-import org.snakeyaml.engine.v2.api.Load;
 import org.snakeyaml.engine.v2.api.LoadSettings;
+import org.snakeyaml.engine.v2.api.StreamDataWriter;
+import org.snakeyaml.engine.v2.api.lowlevel.Parse;
 import org.snakeyaml.engine.v2.common.FlowStyle;
 
+import java.io.IOException;
 import java.io.Reader;
-import java.util.Map;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 
 public final class YamlProvider {
 
@@ -15,19 +18,60 @@ public final class YamlProvider {
       .setAllowDuplicateKeys(false)
       .setLabel("config")
       .build();
-  private static final Load load = new Load(loadSettings);
+  private static final Parse parse = new Parse(loadSettings);
   private static final DumpSettings dumpSettings = DumpSettings.builder()
       .setDefaultFlowStyle(FlowStyle.BLOCK)
       .build();
-  private static final Dump dump = new Dump(dumpSettings);
 
   private YamlProvider() {}
 
-  protected static Map<?, ?> load(Reader reader) {
-    return (Map<?, ?>) load.loadFromReader(reader);
+  protected static void load(Reader reader, FileConfigSection section) {
+    new YamlSectionLoader(loadSettings, parse.parseReader(reader)).load(section);
   }
 
-  protected static String dump(Object object) {
-    return dump.dumpToString(object);
+  protected static void dump(FileConfigSection section, Writer writer) throws IOException {
+    // Representers are stateful, so each dump uses its own
+    Dump dump = new Dump(dumpSettings, new YamlSectionRepresenter(dumpSettings));
+    try {
+      dump.dump(section, new WriterStreamDataWriter(writer));
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+  }
+
+  private static final class WriterStreamDataWriter implements StreamDataWriter {
+
+    private final Writer writer;
+
+    private WriterStreamDataWriter(Writer writer) {
+      this.writer = writer;
+    }
+
+    @Override
+    public void write(String str) {
+      try {
+        writer.write(str);
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+
+    @Override
+    public void write(String str, int off, int len) {
+      try {
+        writer.write(str, off, len);
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+
+    @Override
+    public void flush() {
+      try {
+        writer.flush();
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
   }
 }
@@ -0,0 +1,249 @@
+package xyz.tozymc.api.config.file;
+
+import org.snakeyaml.engine.v2.api.LoadSettings;
+import org.snakeyaml.engine.v2.constructor.StandardConstructor;
+import org.snakeyaml.engine.v2.events.AliasEvent;
+import org.snakeyaml.engine.v2.events.Event;
+import org.snakeyaml.engine.v2.events.NodeEvent;
+import org.snakeyaml.engine.v2.events.ScalarEvent;
+import org.snakeyaml.engine.v2.nodes.ScalarNode;
+import org.snakeyaml.engine.v2.nodes.Tag;
+import xyz.tozymc.api.config.exception.ConfigurationException;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Builds the sections of a {@link YamlConfiguration} directly from the events of the YAML parser.
+ *
+ * <p>Mappings of the document are created as {@link FileConfigSection}s while parsing, without
+ * building an intermediate {@link Map} tree. Mappings inside sequences are still read as maps, as
+ * they are not sections. Scalars are resolved like the default loader of snakeyaml-engine does.
+ *
+ * <p>An alias to a mapping creates a copy of it when used as the value of a section. If {@link
+ * FileConfigSection#isLazyLoad()}, nested mappings are read as maps with string keys, and only
+ * created as sections on first access.
+ *
+ * @author TozyMC
+ * @since 1.0
+ */
+final class YamlSectionLoader {
+
+  private final LoadSettings settings;
+  private final Iterator<Event> events;
+  private final Map<String, Object> anchors = new HashMap<>();
+  private StandardConstructor constructor;
+
+  YamlSectionLoader(LoadSettings settings, Iterable<Event> events) {
+    this.settings = settings;
+    this.events = events.iterator();
+  }
+
+  /**
+   * Reads the single document of the event stream into the specified section.
+   *
+   * @param section Section to read into.
+   * @throws ConfigurationException Thrown when the document is not a mapping, has duplicate keys
+   *                                or contains more than one document.
+   */
+  void load(FileConfigSection section) {
+    expect(next(), Event.ID.StreamStart);
+    Event event = next();
+    if (event.getEventId() == Event.ID.StreamEnd) {
+      return;
+    }
+    expect(event, Event.ID.DocumentStart);
+
+    event = next();
+    if (event.getEventId() == Event.ID.MappingStart) {
+      readSection(section);
+    } else if (readValue(event) != null) {
+      throw new ConfigurationException("Root of the document must be a mapping");
+    }
+
+    expect(next(), Event.ID.DocumentEnd);
+    if (next().getEventId() != Event.ID.StreamEnd) {
+      throw new ConfigurationException("Expected a single document");
+    }
+  }
+
+  private void readSection(FileConfigSection section) {
+    boolean lazy = section.isLazyLoad();
+    for (Event event = next(); event.getEventId() != Event.ID.MappingEnd; event = next()) {
+      String key = readKey(event);
+      if (section.values.containsKey(key)) {
+        throw new ConfigurationException("Found duplicate key " + key);
+      }
+
+      Event valueEvent = next();
+      if (lazy && valueEvent.getEventId() == Event.ID.MappingStart) {
+        section.setLazy0(key, readLazySection(valueEvent));
+        continue;
+      }
+      if (valueEvent.getEventId() == Event.ID.MappingStart) {
+        FileConfigSection child = section.createSection0(key);
+        anchor(valueEvent, child);
+        readSection(child);
+        continue;
+      }
+
+      Object val = readValue(valueEvent);
+      section.set0(key, val instanceof FileConfigSection ? toMap((FileConfigSection) val) : val);
+    }
+  }
+
+  // Same content as a section, null values are dropped like set0 does
+  private Map<String, Object> readLazySection(Event start) {
+    Map<String, Object> map = anchor(start, new LinkedHashMap<>());
+    for (Event event = next(); event.getEventId() != Event.ID.MappingEnd; event = next()) {
+      String key = readKey(event);
+      if (map.containsKey(key)) {
+        throw new ConfigurationException("Found duplicate key " + key);
+      }
+
+      Event valueEvent = next();
+      Object val = valueEvent.getEventId() == Event.ID.MappingStart
+          ? readLazySection(valueEvent) : readValue(valueEvent);
+      if (val != null) {
+        map.put(key, val);
+      }
+    }
+    return map;
+  }
+
+  private String readKey(Event event) {
+    Object key = readValue(event);
+    if (key instanceof Map || key instanceof Collection || key instanceof FileConfigSection) {
+      throw new ConfigurationException("Keys of sections must be scalars");
+    }
+    return String.valueOf(key);
+  }
+
+  private Object readValue(Event event) {
+    switch (event.getEventId()) {
+      case Scalar:
+        return anchor(event, constructScalar((ScalarEvent) event));
+      case Alias:
+        return resolveAlias((AliasEvent) event);
+      case SequenceStart:
+        List<Object> list = anchor(event, new ArrayList<>());
+        for (Event element = next(); element.getEventId() != Event.ID.SequenceEnd;
+            element = next()) {
+          list.add(readValue(element));
+        }
+        return list;
+      case MappingStart:
+        Map<Object, Object> map = anchor(event, new LinkedHashMap<>());
+        for (Event keyEvent = next(); keyEvent.getEventId() != Event.ID.MappingEnd;
+            keyEvent = next()) {
+          Object key = readValue(keyEvent);
+          if (map.containsKey(key)) {
+            throw new ConfigurationException("Found duplicate key " + key);
+          }
+          map.put(key, readValue(next()));
+        }
+        return map;
+      default:
+        throw new ConfigurationException("Unexpected event " + event.getEventId());
+    }
+  }
+
+  private Object resolveAlias(AliasEvent event) {
+    String name = event.getAlias().getValue();
+    if (!anchors.containsKey(name)) {
+      throw new ConfigurationException("Found undefined alias " + name);
+    }
+    Object val = anchors.get(name);
+    return val instanceof FileConfigSection ? toMap((FileConfigSection) val) : val;
+  }
+
+  private Object constructScalar(ScalarEvent event) {
+    String value = event.getValue();
+    String explicitTag = event.getTag().orElse(null);
+    Tag tag = explicitTag == null || explicitTag.equals("!")
+        ? settings.getScalarResolver()
+        .resolve(value, event.getImplicit().canOmitTagInPlainScalar())
+        : new Tag(explicitTag);
+
+    try {
+      if (tag.equals(Tag.STR)) {
+        return value;
+      }
+      if (tag.equals(Tag.NULL)) {
+        return null;
+      }
+      if (tag.equals(Tag.BOOL)) {
+        return Boolean.valueOf(value);
+      }
+      if (tag.equals(Tag.INT)) {
+        return constructInt(value);
+      }
+      if (tag.equals(Tag.FLOAT)) {
+        return constructFloat(value);
+      }
+    } catch (NumberFormatException e) {
+      throw new ConfigurationException("Invalid number " + value, e);
+    }
+
+    // Other tags are rare, they are constructed by snakeyaml-engine itself
+    if (constructor == null) {
+      constructor = new StandardConstructor(settings);
+    }
+    return constructor.constructSingleDocument(
+        Optional.of(new ScalarNode(tag, value, event.getScalarStyle())));
+  }
+
+  private static Object constructInt(String value) {
+    try {
+      return Integer.valueOf(value);
+    } catch (NumberFormatException e) {
+      try {
+        return Long.valueOf(value);
+      } catch (NumberFormatException ex) {
+        return new BigInteger(value);
+      }
+    }
+  }
+
+  private static Object constructFloat(String value) {
+    switch (value) {
+      case ".inf":
+        return Double.POSITIVE_INFINITY;
+      case "-.inf":
+        return Double.NEGATIVE_INFINITY;
+      case ".nan":
+        return Double.NaN;
+      default:
+        return Double.valueOf(value);
+    }
+  }
+
+  private <T> T anchor(Event event, T value) {
+    ((NodeEvent) event).getAnchor().ifPresent(anchor -> anchors.put(anchor.getValue(), value));
+    return value;
+  }
+
+  private static Map<String, Object> toMap(FileConfigSection section) {
+    Map<String, Object> map = new LinkedHashMap<>();
+    section.values.forEach((key, val) -> map.put(key,
+        val instanceof FileConfigSection ? toMap((FileConfigSection) val) : val));
+    return map;
+  }
+
+  private Event next() {
+    return events.next();
+  }
+
+  private static void expect(Event event, Event.ID id) {
+    if (event.getEventId() != id) {
+      throw new ConfigurationException("Expected " + id + " but found " + event.getEventId());
+    }
+  }
+}
@@ -0,0 +1,27 @@
+package xyz.tozymc.api.config.file;
+
+import org.snakeyaml.engine.v2.api.DumpSettings;
+import org.snakeyaml.engine.v2.nodes.Tag;
+import org.snakeyaml.engine.v2.representer.StandardRepresenter;
+
+/**
+ * Represents {@link FileConfigSection}s as YAML mappings of their values.
+ *
+ * <p>Sections are represented as they are walked, so saving does not copy the section tree into
+ * nested maps first.
+ *
+ * <p>A representer keeps the state of the document being represented, so it must not be shared
+ * between threads.
+ *
+ * @author TozyMC
+ * @since 1.0
+ */
+final class YamlSectionRepresenter extends StandardRepresenter {
+
+  YamlSectionRepresenter(DumpSettings settings) {
+    super(settings);
+    parentClassRepresenters.put(FileConfigSection.class,
+        data -> representMapping(Tag.MAP, ((FileConfigSection) data).values,
+            settings.getDefaultFlowStyle()));
+  }
+}
@@ -4,7 +4,11 @@ import org.jetbrains.annotations.NotNull;
 import xyz.tozymc.api.config.Configuration;
 import xyz.tozymc.api.config.file.FileConfigSection;
 import xyz.tozymc.api.config.file.FileConfiguration;
+import xyz.tozymc.api.config.metrics.ConfigMetrics;
 import xyz.tozymc.api.config.setting.ConfigSetting;
+import xyz.tozymc.api.util.Preconditions;
+
+import java.util.concurrent.Executor;
 
 /**
  * Various settings for controlling {@link FileConfiguration}.
@@ -16,6 +20,16 @@ import xyz.tozymc.api.config.setting.ConfigSetting;
 public class FileConfigSetting extends ConfigSetting {
 
   private ReloadType reloadType = ReloadType.MANUAL;
+  private long reloadInterval = 1000;
+  private long saveDelay;
+  private long maxSaveDelay = 5000;
+  private SaveDurability saveDurability = SaveDurability.ATOMIC;
+  private boolean concurrent;
+  private boolean primitiveValues;
+  private Executor changeExecutor = Runnable::run;
+  private boolean binaryCache;
+  private boolean lazySections;
+  private ConfigMetrics metrics = ConfigMetrics.NOOP;
 
   /**
    * Constructs a new {@link ConfigSetting} used by {@link Configuration}.
@@ -48,6 +62,288 @@ public class FileConfigSetting extends ConfigSetting {
     return this;
   }
 
+  /**
+   * Gets the minimum interval in milliseconds between two content checks of {@link
+   * ReloadType#AUTOMATIC}, default is 1000.
+   *
+   * @return Reload interval in milliseconds.
+   */
+  public long reloadInterval() {
+    return reloadInterval;
+  }
+
+  /**
+   * Sets the minimum interval in milliseconds between two content checks of {@link
+   * ReloadType#AUTOMATIC}.
+   *
+   * <p>If the interval is 0, the content of the file will be checked before every access.
+   *
+   * @param reloadInterval Reload interval in milliseconds.
+   * @return This object, for chaining.
+   * @throws IllegalArgumentException Thrown when interval is negative.
+   */
+  public FileConfigSetting reloadInterval(long reloadInterval) {
+    if (reloadInterval < 0) {
+      throw new IllegalArgumentException("Reload interval cannot be negative");
+    }
+    this.reloadInterval = reloadInterval;
+    return this;
+  }
+
+  /**
+   * Gets the quiet period in milliseconds that automatic saves wait for before writing the file,
+   * default is 0.
+   *
+   * @return Save delay in milliseconds.
+   */
+  public long saveDelay() {
+    return saveDelay;
+  }
+
+  /**
+   * Sets the quiet period in milliseconds that automatic saves wait for before writing the file.
+   *
+   * <p>If the delay is greater than 0, the changes made by {@link ReloadType#AUTOMATIC} and {@link
+   * ReloadType#INTELLIGENT} only mark the {@link FileConfiguration} as unsaved. A shared scheduler
+   * saves it once no change has been made for this delay, or once {@link #maxSaveDelay()} has
+   * passed since the first unsaved change. If the delay is 0, the file is saved on every change.
+   *
+   * <p>Unless {@link #concurrent()} is enabled, the first change after a save takes a snapshot of
+   * the values, and the next changes are only logged. The scheduler applies the logged changes to
+   * the snapshot and writes it while the values may still be modified. If a delayed save fails, the
+   * changes stay unsaved and the failure is reported to {@link #metrics()}.
+   *
+   * <p><b>Notes: </b>Call {@link FileConfiguration#flush()} or {@link FileConfiguration#close()}
+   * before shutdown to write the pending changes.
+   *
+   * @param saveDelay Save delay in milliseconds.
+   * @return This object, for chaining.
+   * @throws IllegalArgumentException Thrown when delay is negative.
+   */
+  public FileConfigSetting saveDelay(long saveDelay) {
+    if (saveDelay < 0) {
+      throw new IllegalArgumentException("Save delay cannot be negative");
+    }
+    this.saveDelay = saveDelay;
+    return this;
+  }
+
+  /**
+   * Gets the maximum time in milliseconds that an unsaved change waits for a delayed save, default
+   * is 5000.
+   *
+   * @return Maximum save delay in milliseconds.
+   */
+  public long maxSaveDelay() {
+    return maxSaveDelay;
+  }
+
+  /**
+   * Sets the maximum time in milliseconds that an unsaved change waits for a delayed save.
+   *
+   * @param maxSaveDelay Maximum save delay in milliseconds.
+   * @return This object, for chaining.
+   * @throws IllegalArgumentException Thrown when delay is negative.
+   * @see #saveDelay(long)
+   */
+  public FileConfigSetting maxSaveDelay(long maxSaveDelay) {
+    if (maxSaveDelay < 0) {
+      throw new IllegalArgumentException("Max save delay cannot be negative");
+    }
+    this.maxSaveDelay = maxSaveDelay;
+    return this;
+  }
+
+  /**
+   * Gets the {@link SaveDurability} of the {@link FileConfiguration}, default is {@link
+   * SaveDurability#ATOMIC}.
+   *
+   * @return Durability of saving.
+   */
+  @NotNull
+  public SaveDurability saveDurability() {
+    return saveDurability;
+  }
+
+  /**
+   * Sets {@link SaveDurability} of the {@link FileConfiguration}.
+   *
+   * @param saveDurability Durability of saving.
+   * @return This object, for chaining.
+   */
+  public FileConfigSetting saveDurability(@NotNull SaveDurability saveDurability) {
+    this.saveDurability = saveDurability;
+    return this;
+  }
+
+  /**
+   * Checks if the {@link FileConfiguration} can be accessed by multiple threads, default is false.
+   *
+   * @return Whether or not concurrent mode is enabled.
+   */
+  public boolean concurrent() {
+    return concurrent;
+  }
+
+  /**
+   * Sets whether the {@link FileConfiguration} can be accessed by multiple threads.
+   *
+   * <p>In concurrent mode, setting values, creating sections and loading are serialized by an
+   * exclusive write lock, while loading only holds it to replace the values of the file it has
+   * read. Before releasing the lock, writers publish an immutable copy of the modified sections
+   * through a volatile field, so getters read values without any lock and scale with the number of
+   * readers. Only getters returning sections, and the keys and flat maps, use a shared read lock.
+   *
+   * <p>Writes copy the modified sections and their parents, so bulk updates of large sections are
+   * slower than without concurrent mode, and lists read in concurrent mode cannot be modified.
+   *
+   * <p><b>Notes: </b>This must be set before the configuration is shared between threads.
+   *
+   * @param concurrent Whether or not concurrent mode is enabled.
+   * @return This object, for chaining.
+   */
+  public FileConfigSetting concurrent(boolean concurrent) {
+    this.concurrent = concurrent;
+    return this;
+  }
+
+  /**
+   * Checks if numeric and boolean values are stored unboxed, default is false.
+   *
+   * @return Whether or not primitive values are enabled.
+   */
+  public boolean primitiveValues() {
+    return primitiveValues;
+  }
+
+  /**
+   * Sets whether numeric and boolean values are stored unboxed.
+   *
+   * <p>When enabled, sections store their values in a compact table instead of a {@link
+   * java.util.LinkedHashMap}, integers, longs, doubles and booleans are kept as primitives, and
+   * {@code getInt}, {@code getLong}, {@code getDouble} and {@code getBoolean} read them without
+   * unboxing. This reduces heap usage of configurations with a large number of numeric values.
+   *
+   * <p><b>Notes: </b>This only applies to sections created afterwards, so it should be set before
+   * loading. In concurrent mode, primitive values are boxed on read.
+   *
+   * @param primitiveValues Whether or not primitive values are enabled.
+   * @return This object, for chaining.
+   */
+  public FileConfigSetting primitiveValues(boolean primitiveValues) {
+    this.primitiveValues = primitiveValues;
+    return this;
+  }
+
+  /**
+   * Gets the {@link Executor} that change listeners of the {@link FileConfiguration} are called on,
+   * default calls them directly on the loading thread.
+   *
+   * @return Executor of change listeners.
+   */
+  @NotNull
+  public Executor changeExecutor() {
+    return changeExecutor;
+  }
+
+  /**
+   * Sets the {@link Executor} that change listeners of the {@link FileConfiguration} are called on.
+   *
+   * <p>Each notified listener is submitted as a separate task, so slow listeners can be moved off
+   * the loading thread.
+   *
+   * @param changeExecutor Executor of change listeners.
+   * @return This object, for chaining.
+   * @throws IllegalArgumentException Thrown when executor is null.
+   * @see FileConfiguration#onChange(String, xyz.tozymc.api.config.change.ConfigChangeListener)
+   */
+  public FileConfigSetting changeExecutor(@NotNull Executor changeExecutor) {
+    this.changeExecutor = Preconditions.checkNotNull(changeExecutor, "Executor cannot be null");
+    return this;
+  }
+
+  /**
+   * Checks if loaded values are cached in binary form, default is false.
+   *
+   * @return Whether or not the binary cache is enabled.
+   */
+  public boolean binaryCache() {
+    return binaryCache;
+  }
+
+  /**
+   * Sets whether loaded values are cached in binary form.
+   *
+   * <p>When enabled, the values read from the file are also written to {@link
+   * FileConfiguration#getCacheFile()}, keyed by the content hash of the file. The next loads read
+   * the cache instead of parsing the file, as long as the content of the file did not change.
+   *
+   * <p><b>Notes: </b>Values that have no binary encoding, such as custom objects, cannot be cached,
+   * the file is then parsed on every load.
+   *
+   * @param binaryCache Whether or not the binary cache is enabled.
+   * @return This object, for chaining.
+   */
+  public FileConfigSetting binaryCache(boolean binaryCache) {
+    this.binaryCache = binaryCache;
+    return this;
+  }
+
+  /**
+   * Checks if nested sections are created on first access after loading, default is false.
+   *
+   * @return Whether or not lazy sections are enabled.
+   */
+  public boolean lazySections() {
+    return lazySections;
+  }
+
+  /**
+   * Sets whether nested sections are created on first access after loading.
+   *
+   * <p>When enabled, nested sections of the loaded file are kept as parsed maps, and only created
+   * as {@link FileConfigSection}s when they are accessed. This reduces load time and heap usage of
+   * configurations with a large number of sections that are rarely accessed. Saving does not create
+   * the sections that were not accessed.
+   *
+   * <p><b>Notes: </b>Sections are created by reads, so this is ignored if {@link #concurrent()} is
+   * enabled.
+   *
+   * @param lazySections Whether or not lazy sections are enabled.
+   * @return This object, for chaining.
+   */
+  public FileConfigSetting lazySections(boolean lazySections) {
+    this.lazySections = lazySections;
+    return this;
+  }
+
+  /**
+   * Gets the {@link ConfigMetrics} receiving the measurements of the {@link FileConfiguration},
+   * default is {@link ConfigMetrics#NOOP}.
+   *
+   * @return Metrics of the configuration.
+   */
+  @NotNull
+  public ConfigMetrics metrics() {
+    return metrics;
+  }
+
+  /**
+   * Sets the {@link ConfigMetrics} receiving the measurements of the {@link FileConfiguration}.
+   *
+   * <p>Loads, saves, reload checks, save requests, cache misses and serializer calls are measured,
+   * see {@link xyz.tozymc.api.config.metrics.CountingConfigMetrics} for an implementation that can
+   * be exposed through JMX.
+   *
+   * @param metrics Metrics of the configuration.
+   * @return This object, for chaining.
+   * @throws IllegalArgumentException Thrown when metrics is null.
+   */
+  public FileConfigSetting metrics(@NotNull ConfigMetrics metrics) {
+    this.metrics = Preconditions.checkNotNull(metrics, "Metrics cannot be null");
+    return this;
+  }
+
   @Override
   public @NotNull FileConfiguration configuration() {
     return (FileConfiguration) super.configuration();
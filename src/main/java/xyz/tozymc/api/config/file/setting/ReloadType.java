@@ -10,15 +10,25 @@ import xyz.tozymc.api.config.file.FileConfiguration;
  */
 public enum ReloadType {
   /**
-   * Always reloads {@link FileConfiguration} before getting and setting a value.
+   * Reloads {@link FileConfiguration} before getting a value if the content of the File has
+   * changed, and saves it after setting a value.
    *
-   * <p><b>Notes: </b>This can slow performance down. Better alternative: {@link #INTELLIGENT}.
+   * <p>The content is checked at most once per {@link FileConfigSetting#reloadInterval()}, by
+   * comparing a checksum of the File, and the File is only parsed again when the checksum differs.
    */
   AUTOMATIC,
   /**
    * Reloads {@link FileConfiguration} if the File is modified.
    */
   INTELLIGENT,
+  /**
+   * Reloads {@link FileConfiguration} when a shared {@link java.nio.file.WatchService} reports the
+   * File as modified.
+   *
+   * <p>Getting a value only checks a flag, the file is read again once per change instead of being
+   * checked on every access.
+   */
+  WATCHED,
   /**
    * {@link FileConfiguration} will be reloaded manually.
    */
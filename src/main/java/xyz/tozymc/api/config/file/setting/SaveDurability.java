@@ -0,0 +1,34 @@
+package xyz.tozymc.api.config.file.setting;
+
+import xyz.tozymc.api.config.file.FileConfiguration;
+
+/**
+ * The list of durability levels used when saving {@link FileConfiguration}.
+ *
+ * @author TozyMC
+ * @since 1.0
+ */
+public enum SaveDurability {
+  /**
+   * Writes {@link FileConfiguration} directly into the File.
+   *
+   * <p><b>Notes: </b>A crash while saving can leave a truncated File, and readers can see a
+   * partially written File.
+   */
+  DIRECT,
+  /**
+   * Writes {@link FileConfiguration} into a temporary File next to the File, then atomically
+   * replaces the File with it.
+   *
+   * <p>Readers always see either the old or the new content. Data that is not flushed by the
+   * operating system yet can still be lost on power failure.
+   */
+  ATOMIC,
+  /**
+   * Same as {@link #ATOMIC}, and forces the temporary File and its directory to the storage device
+   * before and after replacing the File.
+   *
+   * <p><b>Notes: </b>This is the safest level, but each save waits for the storage device.
+   */
+  SYNC
+}
@@ -0,0 +1,108 @@
+package xyz.tozymc.api.config.metrics;
+
+import xyz.tozymc.api.config.file.FileConfiguration;
+import xyz.tozymc.api.config.file.setting.FileConfigSetting;
+
+/**
+ * Receives the measurements of a {@link FileConfiguration}.
+ *
+ * <p>All methods do nothing by default, so an implementation only overrides the measurements it
+ * is interested in. Methods can be called by multiple threads at the same time, and are called on
+ * the hot paths of the configuration, so they must be cheap and must not block.
+ *
+ * <p><b>Notes: </b>Durations are only measured when the metrics of the configuration are not
+ * {@link #NOOP}.
+ *
+ * @author TozyMC
+ * @see FileConfigSetting#metrics(ConfigMetrics)
+ * @see CountingConfigMetrics
+ * @since 1.0
+ */
+public interface ConfigMetrics {
+
+  /**
+   * Metrics that ignore all measurements, the default of {@link FileConfigSetting#metrics()}.
+   */
+  ConfigMetrics NOOP = new ConfigMetrics() {};
+
+  /**
+   * Called after the file was loaded.
+   *
+   * @param nanos Duration of reading and parsing the file, in nanoseconds.
+   * @param bytes Size of the file.
+   * @param keys  Number of values and sections loaded.
+   */
+  default void recordLoad(long nanos, long bytes, int keys) {
+  }
+
+  /**
+   * Called after the file was saved.
+   *
+   * @param nanos Duration of writing and replacing the file, in nanoseconds.
+   * @param bytes Size of the written file.
+   */
+  default void recordSave(long nanos, long bytes) {
+  }
+
+  /**
+   * Called when a delayed save failed on the scheduler thread. The changes stay unsaved, so they
+   * are written by the next save, flush or close.
+   *
+   * @param cause Exception thrown by the save.
+   * @see FileConfigSetting#saveDelay(long)
+   */
+  default void recordSaveFailure(Throwable cause) {
+  }
+
+  /**
+   * Called after the binary cache was looked up while loading.
+   *
+   * @param hit Whether or not the values were read from the cache.
+   * @see FileConfigSetting#binaryCache(boolean)
+   */
+  default void recordBinaryCache(boolean hit) {
+  }
+
+  /**
+   * Called after checking if the file must be reloaded before an access, unless the reload type is
+   * {@link xyz.tozymc.api.config.file.setting.ReloadType#MANUAL}.
+   *
+   * @param nanos    Duration of the check, including the reload, in nanoseconds.
+   * @param reloaded Whether or not the file was reloaded.
+   */
+  default void recordReloadCheck(long nanos, boolean reloaded) {
+  }
+
+  /**
+   * Called after a modification requested a save, unless the reload type is {@link
+   * xyz.tozymc.api.config.file.setting.ReloadType#MANUAL}.
+   *
+   * @param nanos Duration of saving or scheduling the save, in nanoseconds.
+   */
+  default void recordSaveRequest(long nanos) {
+  }
+
+  /**
+   * Called when a path was not found in the cache of compiled paths.
+   */
+  default void recordPathCacheMiss() {
+  }
+
+  /**
+   * Called after an object was serialized to be set.
+   *
+   * @param type  Class of the object.
+   * @param nanos Duration of the serialization, in nanoseconds.
+   */
+  default void recordSerialize(Class<?> type, long nanos) {
+  }
+
+  /**
+   * Called after an object was deserialized to be got.
+   *
+   * @param type  Class of the object.
+   * @param nanos Duration of the deserialization, in nanoseconds.
+   */
+  default void recordDeserialize(Class<?> type, long nanos) {
+  }
+}
@@ -0,0 +1,44 @@
+package xyz.tozymc.api.config.metrics;
+
+/**
+ * Management interface of {@link CountingConfigMetrics}, exposed through JMX.
+ *
+ * @author TozyMC
+ * @see CountingConfigMetrics#registerMBean(xyz.tozymc.api.config.file.FileConfiguration)
+ * @since 1.0
+ */
+public interface ConfigMetricsMXBean {
+
+  LatencyHistogram getLoadLatency();
+
+  LatencyHistogram getSaveLatency();
+
+  LatencyHistogram getReloadCheckLatency();
+
+  LatencyHistogram getSaveRequestLatency();
+
+  LatencyHistogram getSerializeLatency();
+
+  LatencyHistogram getDeserializeLatency();
+
+  long getLoadedBytes();
+
+  long getSavedBytes();
+
+  long getSaveFailures();
+
+  int getKeyCount();
+
+  long getReloadCount();
+
+  long getBinaryCacheHits();
+
+  long getBinaryCacheMisses();
+
+  long getPathCacheMisses();
+
+  /**
+   * Removes all measurements.
+   */
+  void reset();
+}
@@ -0,0 +1,249 @@
+package xyz.tozymc.api.config.metrics;
+
+import org.jetbrains.annotations.NotNull;
+import xyz.tozymc.api.config.exception.ConfigurationException;
+import xyz.tozymc.api.config.file.FileConfiguration;
+import xyz.tozymc.api.util.Preconditions;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lightweight, lock-free {@link ConfigMetrics} counting all measurements of a {@link
+ * FileConfiguration}.
+ *
+ * <p>Counters are {@link LongAdder}s and durations are recorded in {@link LatencyHistogram}s, so
+ * recording stays cheap when the configuration is accessed by many threads.
+ *
+ * <p>For example:
+ * <pre>CountingConfigMetrics metrics = new CountingConfigMetrics();
+ * config.getSetting().metrics(metrics);
+ * metrics.registerMBean(config);</pre>
+ *
+ * @author TozyMC
+ * @since 1.0
+ */
+public class CountingConfigMetrics implements ConfigMetrics, ConfigMetricsMXBean {
+
+  private static final String DOMAIN = "xyz.tozymc.api.config";
+
+  private final LatencyHistogram loadLatency = new LatencyHistogram();
+  private final LatencyHistogram saveLatency = new LatencyHistogram();
+  private final LatencyHistogram reloadCheckLatency = new LatencyHistogram();
+  private final LatencyHistogram saveRequestLatency = new LatencyHistogram();
+  private final LatencyHistogram serializeLatency = new LatencyHistogram();
+  private final LatencyHistogram deserializeLatency = new LatencyHistogram();
+  private final LongAdder loadedBytes = new LongAdder();
+  private final LongAdder savedBytes = new LongAdder();
+  private final LongAdder saveFailures = new LongAdder();
+  private final LongAdder reloads = new LongAdder();
+  private final LongAdder binaryCacheHits = new LongAdder();
+  private final LongAdder binaryCacheMisses = new LongAdder();
+  private final LongAdder pathCacheMisses = new LongAdder();
+  private volatile int keyCount;
+
+  @Override
+  public void recordLoad(long nanos, long bytes, int keys) {
+    loadLatency.record(nanos);
+    loadedBytes.add(bytes);
+    keyCount = keys;
+  }
+
+  @Override
+  public void recordSave(long nanos, long bytes) {
+    saveLatency.record(nanos);
+    savedBytes.add(bytes);
+  }
+
+  @Override
+  public void recordSaveFailure(Throwable cause) {
+    saveFailures.increment();
+  }
+
+  @Override
+  public void recordBinaryCache(boolean hit) {
+    (hit ? binaryCacheHits : binaryCacheMisses).increment();
+  }
+
+  @Override
+  public void recordReloadCheck(long nanos, boolean reloaded) {
+    reloadCheckLatency.record(nanos);
+    if (reloaded) {
+      reloads.increment();
+    }
+  }
+
+  @Override
+  public void recordSaveRequest(long nanos) {
+    saveRequestLatency.record(nanos);
+  }
+
+  @Override
+  public void recordPathCacheMiss() {
+    pathCacheMisses.increment();
+  }
+
+  @Override
+  public void recordSerialize(Class<?> type, long nanos) {
+    serializeLatency.record(nanos);
+  }
+
+  @Override
+  public void recordDeserialize(Class<?> type, long nanos) {
+    deserializeLatency.record(nanos);
+  }
+
+  @Override
+  public LatencyHistogram getLoadLatency() {
+    return loadLatency;
+  }
+
+  @Override
+  public LatencyHistogram getSaveLatency() {
+    return saveLatency;
+  }
+
+  @Override
+  public LatencyHistogram getReloadCheckLatency() {
+    return reloadCheckLatency;
+  }
+
+  @Override
+  public LatencyHistogram getSaveRequestLatency() {
+    return saveRequestLatency;
+  }
+
+  @Override
+  public LatencyHistogram getSerializeLatency() {
+    return serializeLatency;
+  }
+
+  @Override
+  public LatencyHistogram getDeserializeLatency() {
+    return deserializeLatency;
+  }
+
+  @Override
+  public long getLoadedBytes() {
+    return loadedBytes.sum();
+  }
+
+  @Override
+  public long getSavedBytes() {
+    return savedBytes.sum();
+  }
+
+  @Override
+  public long getSaveFailures() {
+    return saveFailures.sum();
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>This is the number of values and sections of the last load.
+   */
+  @Override
+  public int getKeyCount() {
+    return keyCount;
+  }
+
+  @Override
+  public long getReloadCount() {
+    return reloads.sum();
+  }
+
+  @Override
+  public long getBinaryCacheHits() {
+    return binaryCacheHits.sum();
+  }
+
+  @Override
+  public long getBinaryCacheMisses() {
+    return binaryCacheMisses.sum();
+  }
+
+  @Override
+  public long getPathCacheMisses() {
+    return pathCacheMisses.sum();
+  }
+
+  @Override
+  public void reset() {
+    loadLatency.reset();
+    saveLatency.reset();
+    reloadCheckLatency.reset();
+    saveRequestLatency.reset();
+    serializeLatency.reset();
+    deserializeLatency.reset();
+    loadedBytes.reset();
+    savedBytes.reset();
+    saveFailures.reset();
+    reloads.reset();
+    binaryCacheHits.reset();
+    binaryCacheMisses.reset();
+    pathCacheMisses.reset();
+    keyCount = 0;
+  }
+
+  /**
+   * Registers these metrics to the platform {@link MBeanServer}, named after the file of the
+   * specified configuration.
+   *
+   * @param config Configuration measured by these metrics.
+   * @return Name of the registered MBean.
+   * @throws IllegalArgumentException Thrown when config is null.
+   * @throws ConfigurationException   Thrown when the MBean cannot be registered, for example if
+   *                                  the configuration is already registered.
+   */
+  @NotNull
+  public ObjectName registerMBean(@NotNull FileConfiguration config) {
+    Preconditions.checkNotNull(config, "Configuration cannot be null");
+
+    try {
+      ObjectName name = createName(config);
+      ManagementFactory.getPlatformMBeanServer().registerMBean(this, name);
+      return name;
+    } catch (JMException e) {
+      throw new ConfigurationException(
+          "Cannot register metrics of `" + config.getFile().getName() + "`", e);
+    }
+  }
+
+  /**
+   * Unregisters the MBean of the specified configuration from the platform {@link MBeanServer}, if
+   * registered.
+   *
+   * @param config Configuration measured by these metrics.
+   * @throws IllegalArgumentException Thrown when config is null.
+   * @throws ConfigurationException   Thrown when the MBean cannot be unregistered.
+   */
+  public void unregisterMBean(@NotNull FileConfiguration config) {
+    Preconditions.checkNotNull(config, "Configuration cannot be null");
+
+    try {
+      MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+      ObjectName name = createName(config);
+      if (server.isRegistered(name)) {
+        server.unregisterMBean(name);
+      }
+    } catch (JMException e) {
+      throw new ConfigurationException(
+          "Cannot unregister metrics of `" + config.getFile().getName() + "`", e);
+    }
+  }
+
+  private static ObjectName createName(FileConfiguration config) throws JMException {
+    return new ObjectName(DOMAIN + ":type=" + config.getClass().getSimpleName() + ",file="
+        + ObjectName.quote(config.getFile().getAbsolutePath()));
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + "[loads=" + loadLatency.getCount() + ", saves="
+        + saveLatency.getCount() + ", reloads=" + getReloadCount() + "]";
+  }
+}
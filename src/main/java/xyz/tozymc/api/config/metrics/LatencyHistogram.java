@@ -0,0 +1,147 @@
+package xyz.tozymc.api.config.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free histogram of durations in nanoseconds.
+ *
+ * <p>Durations are counted in buckets of powers of two, so percentiles are accurate to a factor of
+ * two, while recording only updates a few counters and never allocates.
+ *
+ * @author TozyMC
+ * @since 1.0
+ */
+public final class LatencyHistogram {
+
+  private final AtomicLongArray buckets = new AtomicLongArray(64);
+  private final LongAdder count = new LongAdder();
+  private final LongAdder total = new LongAdder();
+  private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+  /**
+   * Records the specified duration.
+   *
+   * @param nanos Duration in nanoseconds, negative durations are recorded as 0.
+   */
+  public void record(long nanos) {
+    long value = Math.max(nanos, 0);
+    buckets.incrementAndGet(63 - Long.numberOfLeadingZeros(value | 1));
+    count.increment();
+    total.add(value);
+    max.accumulate(value);
+  }
+
+  /**
+   * Gets the number of recorded durations.
+   *
+   * @return Number of recorded durations.
+   */
+  public long getCount() {
+    return count.sum();
+  }
+
+  /**
+   * Gets the sum of the recorded durations.
+   *
+   * @return Sum of the recorded durations, in nanoseconds.
+   */
+  public long getTotalNanos() {
+    return total.sum();
+  }
+
+  /**
+   * Gets the longest recorded duration.
+   *
+   * @return Longest recorded duration, in nanoseconds.
+   */
+  public long getMaxNanos() {
+    return max.get();
+  }
+
+  /**
+   * Gets the mean of the recorded durations.
+   *
+   * @return Mean of the recorded durations, in nanoseconds, or 0 if none were recorded.
+   */
+  public long getMeanNanos() {
+    long n = getCount();
+    return n == 0 ? 0 : getTotalNanos() / n;
+  }
+
+  /**
+   * Gets the median of the recorded durations.
+   *
+   * @return Median of the recorded durations, in nanoseconds.
+   * @see #percentile(double)
+   */
+  public long getP50Nanos() {
+    return percentile(0.5);
+  }
+
+  /**
+   * Gets the 99th percentile of the recorded durations.
+   *
+   * @return 99th percentile of the recorded durations, in nanoseconds.
+   * @see #percentile(double)
+   */
+  public long getP99Nanos() {
+    return percentile(0.99);
+  }
+
+  /**
+   * Gets the specified percentile of the recorded durations, as the upper bound of the bucket it
+   * falls in.
+   *
+   * @param percentile Percentile between 0 and 1.
+   * @return Percentile of the recorded durations, in nanoseconds, or 0 if none were recorded.
+   * @throws IllegalArgumentException Thrown when percentile is not between 0 and 1.
+   */
+  public long percentile(double percentile) {
+    if (percentile < 0 || percentile > 1) {
+      throw new IllegalArgumentException("Percentile must be between 0 and 1");
+    }
+
+    long[] counts = new long[buckets.length()];
+    long n = 0;
+    for (int i = 0; i < counts.length; i++) {
+      counts[i] = buckets.get(i);
+      n += counts[i];
+    }
+    if (n == 0) {
+      return 0;
+    }
+
+    long rank = Math.max((long) Math.ceil(percentile * n), 1);
+    long seen = 0;
+    for (int i = 0; i < counts.length; i++) {
+      seen += counts[i];
+      if (seen >= rank) {
+        long upper = i == 63 ? Long.MAX_VALUE : (1L << (i + 1)) - 1;
+        return Math.min(upper, getMaxNanos());
+      }
+    }
+    return getMaxNanos();
+  }
+
+  /**
+   * Removes all recorded durations.
+   *
+   * <p><b>Notes: </b>Durations recorded while resetting may be partially kept.
+   */
+  public void reset() {
+    for (int i = 0; i < buckets.length(); i++) {
+      buckets.set(i, 0);
+    }
+    count.reset();
+    total.reset();
+    max.reset();
+  }
+
+  @Override
+  public String toString() {
+    return "LatencyHistogram[count=" + getCount() + ", mean=" + getMeanNanos() + "ns, p99="
+        + getP99Nanos() + "ns, max=" + getMaxNanos() + "ns]";
+  }
+}
@@ -0,0 +1,6 @@
+/**
+ * Classes dedicated to measuring the I/O and lookup costs of a configuration.
+ *
+ * @since 1.0
+ */
+package xyz.tozymc.api.config.metrics;
@@ -0,0 +1,41 @@
+package xyz.tozymc.api.config.serialization;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+
+/**
+ * Serializer and deserializer of a {@link ConfigurationSerializable} class.
+ *
+ * <p>If a class named after the binary name of a serializable class followed by {@code
+ * $$ConfigCodec} implements this interface and has a public empty constructor, it is used instead
+ * of reflection to serialize and deserialize that class. These codecs are generated at compile
+ * time by the annotation processor of the {@code processor} module.
+ *
+ * @param <T> Type of the serializable class.
+ * @author TozyMC
+ * @since 1.0
+ */
+public interface ConfigurationCodec<T> {
+
+  /**
+   * The suffix appended to the binary name of a serializable class to get the name of its codec.
+   */
+  String SUFFIX = "$$ConfigCodec";
+
+  /**
+   * Serializes the specified object into a {@link Map}.
+   *
+   * @param object Object to serialize.
+   * @return Map containing the current state of the object.
+   */
+  @NotNull Map<?, ?> serialize(@NotNull T object);
+
+  /**
+   * Deserializes the specified {@link Map} into a new object.
+   *
+   * @param map Arguments for deserialization.
+   * @return New instance of the serializable class.
+   */
+  @NotNull T deserialize(@NotNull Map<?, ?> map);
+}
@@ -1,21 +1,10 @@
 package xyz.tozymc.api.config.serialization.handler;
 
-import static xyz.tozymc.api.config.serialization.handler.Reflections.getDeserializationMethod;
-import static xyz.tozymc.api.config.serialization.handler.Reflections.getSerializationMethod;
-import static xyz.tozymc.api.config.serialization.handler.Reflections.getValue;
-import static xyz.tozymc.api.config.serialization.handler.Reflections.invoke;
-import static xyz.tozymc.api.config.serialization.handler.Reflections.invokeStatic;
-import static xyz.tozymc.api.config.serialization.handler.Reflections.newInstance;
-import static xyz.tozymc.api.config.serialization.handler.Reflections.newSerializationFieldsStream;
-import static xyz.tozymc.api.config.serialization.handler.Reflections.setField;
-
 import org.jetbrains.annotations.NotNull;
 import xyz.tozymc.api.config.Configuration;
 import xyz.tozymc.api.config.exception.ConfigurationSerializationException;
 import xyz.tozymc.api.config.serialization.ConfigurationSerializable;
-import xyz.tozymc.api.config.serialization.SerialKey;
 
-import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
@@ -37,22 +26,11 @@ public final class ConfigurationSerializers {
    *                                             error when serialize object.
    */
   public static Map<?, ?> serialize(Object object) {
-    Class<?> clazz = object.getClass();
-    ConfigurationSerializable serializable = clazz.getAnnotation(ConfigurationSerializable.class);
-    if (serializable == null) {
+    SerializationCodec codec = SerializationCodec.of(object.getClass());
+    if (codec == null) {
       throw new ConfigurationSerializationException("Cannot serialize this class");
     }
-
-    if (hasSerializationMethod(serializable)) {
-      return invoke(getSerializationMethod(clazz), Map.class, object, object);
-    }
-
-    Map<String, Object> map = new LinkedHashMap<>();
-    newSerializationFieldsStream(clazz).forEach(field -> {
-      SerialKey annotation = field.getAnnotation(SerialKey.class);
-      map.put(annotation.value(), getValue(field, object));
-    });
-    return map;
+    return codec.serialize(object);
   }
 
   /**
@@ -66,21 +44,11 @@ public final class ConfigurationSerializers {
    *                                             error when deserialize object.
    */
   public static <T> T deserialize(Map<?, ?> map, @NotNull Class<T> clazz) {
-    ConfigurationSerializable serializable = clazz.getAnnotation(ConfigurationSerializable.class);
-    if (serializable == null) {
+    SerializationCodec codec = SerializationCodec.of(clazz);
+    if (codec == null) {
       throw new ConfigurationSerializationException("Cannot deserialize this class");
     }
-
-    if (hasDeserializationMethod(serializable)) {
-      return invokeStatic(getDeserializationMethod(clazz), clazz, map);
-    }
-
-    Object object = newInstance(clazz);
-    newSerializationFieldsStream(clazz).forEach(field -> {
-      SerialKey annotation = field.getAnnotation(SerialKey.class);
-      setField(field, object, map.get(annotation.value()));
-    });
-    return clazz.cast(object);
+    return clazz.cast(codec.deserialize(map));
   }
 
   /**
@@ -93,14 +61,19 @@ public final class ConfigurationSerializers {
     if (object == null) {
       return false;
     }
-    return object.getClass().getAnnotation(ConfigurationSerializable.class) != null;
+    return SerializationCodec.isSerializable(object.getClass());
   }
 
-  private static boolean hasSerializationMethod(ConfigurationSerializable annotation) {
-    return !annotation.serialize().isEmpty();
-  }
-
-  private static boolean hasDeserializationMethod(ConfigurationSerializable annotation) {
-    return !annotation.deserialize().isEmpty();
+  /**
+   * Checks if the specified class is a serializable class.
+   *
+   * @param clazz Class to check.
+   * @return Whether or not the specified class is annotated by {@link ConfigurationSerializable}.
+   */
+  public static boolean isSerializableClass(Class<?> clazz) {
+    if (clazz == null) {
+      return false;
+    }
+    return SerializationCodec.isSerializable(clazz);
   }
 }
@@ -0,0 +1,312 @@
+package xyz.tozymc.api.config.serialization.handler;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import xyz.tozymc.api.config.exception.ConfigurationSerializationException;
+import xyz.tozymc.api.config.serialization.ConfigurationCodec;
+import xyz.tozymc.api.config.serialization.ConfigurationSerializable;
+import xyz.tozymc.api.config.serialization.SerialKey;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compiled serializer and deserializer of a {@link ConfigurationSerializable} class.
+ *
+ * <p>A {@link ConfigurationCodec} generated at compile time is preferred when it exists.
+ * Otherwise, annotations, constructor, methods and {@link SerialKey} fields are looked up once per
+ * class, and accessed through {@link MethodHandle}s, so serializing an object does no reflective
+ * lookup anymore. Codecs are cached in a {@link ClassValue}, which does not prevent classes from
+ * being unloaded.
+ *
+ * @author TozyMC
+ * @since 1.0
+ */
+final class SerializationCodec {
+
+  private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+  private static final MethodType SERIALIZER_TYPE =
+      MethodType.methodType(Map.class, Object.class, Object.class);
+  private static final MethodType DESERIALIZER_TYPE =
+      MethodType.methodType(Object.class, Map.class);
+  private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class);
+  private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+  private static final MethodType SETTER_TYPE =
+      MethodType.methodType(void.class, Object.class, Object.class);
+
+  private static final ClassValue<Boolean> SERIALIZABLE = new ClassValue<Boolean>() {
+    @Override
+    protected Boolean computeValue(Class<?> type) {
+      return type.isAnnotationPresent(ConfigurationSerializable.class);
+    }
+  };
+  private static final ClassValue<SerializationCodec> CODECS =
+      new ClassValue<SerializationCodec>() {
+        @Override
+        protected SerializationCodec computeValue(Class<?> type) {
+          return new SerializationCodec(type);
+        }
+      };
+
+  private final Class<?> type;
+  private final ConfigurationCodec<Object> generated;
+  private final MethodHandle serializer, deserializer, constructor;
+  private final FieldCodec[] fields;
+
+  private SerializationCodec(Class<?> type) {
+    this.type = type;
+    this.generated = findGenerated(type);
+    if (generated != null) {
+      this.serializer = this.deserializer = this.constructor = null;
+      this.fields = null;
+      return;
+    }
+
+    ConfigurationSerializable annotation = type.getAnnotation(ConfigurationSerializable.class);
+    this.serializer = annotation.serialize().isEmpty() ? null
+        : findSerializer(type, annotation.serialize());
+    this.deserializer = annotation.deserialize().isEmpty() ? null
+        : findDeserializer(type, annotation.deserialize());
+    this.constructor = deserializer == null ? findConstructor(type) : null;
+    this.fields = serializer == null || deserializer == null ? findFields(type) : null;
+  }
+
+  /**
+   * Checks if the specified class is annotated by {@link ConfigurationSerializable}.
+   *
+   * @param clazz Class to check.
+   * @return Whether or not the class is serializable.
+   */
+  static boolean isSerializable(@NotNull Class<?> clazz) {
+    return SERIALIZABLE.get(clazz);
+  }
+
+  /**
+   * Gets the codec of the specified class, compiling it on first use.
+   *
+   * @param clazz Serializable class.
+   * @return Codec of the class, or null if the class is not serializable.
+   * @throws ConfigurationSerializationException Thrown when the serialization methods, or the
+   *                                             constructor of the class are invalid.
+   */
+  @Nullable
+  static SerializationCodec of(@NotNull Class<?> clazz) {
+    return isSerializable(clazz) ? CODECS.get(clazz) : null;
+  }
+
+  Map<?, ?> serialize(Object object) {
+    if (generated != null) {
+      try {
+        return generated.serialize(object);
+      } catch (ConfigurationSerializationException e) {
+        throw e;
+      } catch (RuntimeException e) {
+        throw new ConfigurationSerializationException("Codec throws an exception", e);
+      }
+    }
+    if (serializer != null) {
+      try {
+        return (Map<?, ?>) serializer.invokeExact(object, object);
+      } catch (Throwable e) {
+        throw new ConfigurationSerializationException("Method throws an exception", e);
+      }
+    }
+
+    Map<String, Object> map = new LinkedHashMap<>();
+    for (FieldCodec field : fields) {
+      map.put(field.key, field.get(object));
+    }
+    return map;
+  }
+
+  Object deserialize(Map<?, ?> map) {
+    if (generated != null) {
+      try {
+        return generated.deserialize(map);
+      } catch (ConfigurationSerializationException e) {
+        throw e;
+      } catch (RuntimeException e) {
+        throw new ConfigurationSerializationException("Codec throws an exception", e);
+      }
+    }
+    if (deserializer != null) {
+      try {
+        return (Object) deserializer.invokeExact(map);
+      } catch (Throwable e) {
+        throw new ConfigurationSerializationException("Method throws an exception", e);
+      }
+    }
+    if (constructor == null) {
+      throw new ConfigurationSerializationException(Modifier.isAbstract(type.getModifiers())
+          ? "Class cannot be an abstract class"
+          : "Serialization class must have an empty constructor");
+    }
+
+    Object object;
+    try {
+      object = (Object) constructor.invokeExact();
+    } catch (Throwable e) {
+      throw new ConfigurationSerializationException("Constructor throws an exception", e);
+    }
+    for (FieldCodec field : fields) {
+      field.set(object, map.get(field.key));
+    }
+    return object;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static ConfigurationCodec<Object> findGenerated(Class<?> type) {
+    Class<?> codecClass;
+    try {
+      codecClass = Class.forName(type.getName() + ConfigurationCodec.SUFFIX, true,
+          type.getClassLoader());
+    } catch (ClassNotFoundException | LinkageError e) {
+      return null;
+    }
+    if (!ConfigurationCodec.class.isAssignableFrom(codecClass)) {
+      return null;
+    }
+    try {
+      return (ConfigurationCodec<Object>) codecClass.getConstructor().newInstance();
+    } catch (ReflectiveOperationException e) {
+      throw new ConfigurationSerializationException("Cannot create generated codec", e);
+    }
+  }
+
+  private static MethodHandle findSerializer(Class<?> type, String name) {
+    try {
+      Method method = type.getDeclaredMethod(name, type);
+      method.setAccessible(true);
+      MethodHandle handle = LOOKUP.unreflect(method);
+      if (Modifier.isStatic(method.getModifiers())) {
+        handle = MethodHandles.dropArguments(handle, 0, Object.class);
+      }
+      return handle.asType(SERIALIZER_TYPE);
+    } catch (NoSuchMethodException | IllegalAccessException e) {
+      throw new ConfigurationSerializationException("No serialization method found", e);
+    }
+  }
+
+  private static MethodHandle findDeserializer(Class<?> type, String name) {
+    try {
+      Method method = type.getDeclaredMethod(name, Map.class);
+      method.setAccessible(true);
+      return LOOKUP.unreflect(method).asType(DESERIALIZER_TYPE);
+    } catch (NoSuchMethodException | IllegalAccessException e) {
+      throw new ConfigurationSerializationException("No deserialization method found", e);
+    }
+  }
+
+  private static MethodHandle findConstructor(Class<?> type) {
+    if (Modifier.isAbstract(type.getModifiers())) {
+      return null;
+    }
+    try {
+      Constructor<?> constructor = type.getDeclaredConstructor();
+      constructor.setAccessible(true);
+      return LOOKUP.unreflectConstructor(constructor).asType(CONSTRUCTOR_TYPE);
+    } catch (NoSuchMethodException | IllegalAccessException e) {
+      return null;
+    }
+  }
+
+  private static FieldCodec[] findFields(Class<?> type) {
+    List<FieldCodec> fields = new ArrayList<>();
+    for (Field field : type.getDeclaredFields()) {
+      SerialKey key = field.getAnnotation(SerialKey.class);
+      if (key != null) {
+        field.setAccessible(true);
+        fields.add(new FieldCodec(key.value(), field));
+      }
+    }
+    return fields.toArray(new FieldCodec[0]);
+  }
+
+  private static final class FieldCodec {
+
+    private final String key;
+    private final Class<?> type;
+    private final boolean primitive;
+    private final MethodHandle getter, setter;
+
+    private FieldCodec(String key, Field field) {
+      this.key = key;
+      this.type = MethodType.methodType(field.getType()).wrap().returnType();
+      this.primitive = field.getType().isPrimitive();
+      try {
+        this.getter = LOOKUP.unreflectGetter(field).asType(GETTER_TYPE);
+        this.setter = findSetter(field);
+      } catch (IllegalAccessException e) {
+        throw new ConfigurationSerializationException("Cannot access field " + field.getName(), e);
+      }
+    }
+
+    private static MethodHandle findSetter(Field field) throws IllegalAccessException {
+      try {
+        return LOOKUP.unreflectSetter(field).asType(SETTER_TYPE);
+      } catch (IllegalAccessException e) {
+        // Final fields can only be set reflectively
+        try {
+          return LOOKUP.findVirtual(Field.class, "set", SETTER_TYPE).bindTo(field);
+        } catch (NoSuchMethodException ex) {
+          throw e;
+        }
+      }
+    }
+
+    private Object get(Object object) {
+      try {
+        return (Object) getter.invokeExact(object);
+      } catch (Throwable e) {
+        throw new ConfigurationSerializationException("Cannot get value of " + key, e);
+      }
+    }
+
+    private void set(Object object, Object value) {
+      if (value == null && primitive) {
+        return;
+      }
+      try {
+        setter.invokeExact(object, convert(value));
+      } catch (Throwable e) {
+        throw new ConfigurationSerializationException("Cannot set value of " + key, e);
+      }
+    }
+
+    private Object convert(Object value) {
+      if (!(value instanceof Number) || type.isInstance(value)) {
+        return value;
+      }
+
+      Number number = (Number) value;
+      if (type == Integer.class) {
+        return number.intValue();
+      }
+      if (type == Long.class) {
+        return number.longValue();
+      }
+      if (type == Double.class) {
+        return number.doubleValue();
+      }
+      if (type == Float.class) {
+        return number.floatValue();
+      }
+      if (type == Short.class) {
+        return number.shortValue();
+      }
+      if (type == Byte.class) {
+        return number.byteValue();
+      }
+      return value;
+    }
+  }
+}
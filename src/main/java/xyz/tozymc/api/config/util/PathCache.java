@@ -0,0 +1,119 @@
+package xyz.tozymc.api.config.util;
+
+import org.jetbrains.annotations.NotNull;
+import xyz.tozymc.api.config.ConfigPath;
+import xyz.tozymc.api.util.Preconditions;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Cache of {@link ConfigPath}s compiled from raw path strings.
+ *
+ * <p>The cache is bounded, so paths built dynamically cannot leak memory. When it is full, each
+ * new path evicts an entry chosen by the clock algorithm: entries used since the hand of the clock
+ * last passed them get a second chance, so frequently used paths stay cached. Changing the
+ * separator drops all entries.
+ *
+ * @author TozyMC
+ * @since 1.0
+ */
+public final class PathCache {
+
+  private static final int MAX_SIZE = 1024;
+
+  private final ConcurrentMap<String, Entry> cache = new ConcurrentHashMap<>();
+  private final Runnable missListener;
+  private volatile char separator;
+  private Iterator<Entry> hand;
+
+  /**
+   * Constructs an empty {@link PathCache}.
+   */
+  public PathCache() {
+    this(() -> {
+    });
+  }
+
+  /**
+   * Constructs an empty {@link PathCache} notifying the specified listener of each path that is
+   * not found in the cache.
+   *
+   * @param missListener Listener of cache misses.
+   * @throws IllegalArgumentException Thrown when listener is null.
+   */
+  public PathCache(@NotNull Runnable missListener) {
+    this.missListener = Preconditions.checkNotNull(missListener, "Listener cannot be null");
+  }
+
+  /**
+   * Gets the compiled path of the specified path, compiling it on first use.
+   *
+   * @param path      Path to compile.
+   * @param separator Separator of the path.
+   * @return Compiled path.
+   * @throws IllegalArgumentException Thrown when path is null.
+   */
+  @NotNull
+  public ConfigPath compile(@NotNull String path, char separator) {
+    Preconditions.checkNotNull(path, "Path cannot be null");
+
+    if (this.separator != separator) {
+      cache.clear();
+      this.separator = separator;
+    }
+
+    Entry entry = cache.get(path);
+    if (entry != null) {
+      // Only written once per pass of the hand, so hits do not keep writing shared memory
+      if (!entry.used) {
+        entry.used = true;
+      }
+      return entry.path;
+    }
+
+    missListener.run();
+    ConfigPath compiled = ConfigPath.of(path, separator);
+    if (cache.size() >= MAX_SIZE) {
+      evict();
+    }
+    cache.put(path, new Entry(compiled));
+    return compiled;
+  }
+
+  private synchronized void evict() {
+    // Two turns of the hand find an unused entry, unless other threads keep using them
+    for (int i = cache.size() * 2; i >= 0; i--) {
+      if (hand == null || !hand.hasNext()) {
+        hand = cache.values().iterator();
+        if (!hand.hasNext()) {
+          return;
+        }
+      }
+      Entry entry = hand.next();
+      if (!entry.used) {
+        hand.remove();
+        return;
+      }
+      entry.used = false;
+    }
+  }
+
+  /**
+   * Removes all compiled paths from this cache.
+   */
+  public void clear() {
+    cache.clear();
+  }
+
+  private static final class Entry {
+
+    private final ConfigPath path;
+    private volatile boolean used;
+
+    private Entry(ConfigPath path) {
+      this.path = path;
+    }
+  }
+}
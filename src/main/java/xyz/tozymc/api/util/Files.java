@@ -1,7 +1,9 @@
 package xyz.tozymc.api.util;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.io.BufferedOutputStream;
 import java.io.BufferedReader;
 import java.io.BufferedWriter;
 import java.io.File;
@@ -13,11 +15,26 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.AclFileAttributeView;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+import java.util.zip.Checksum;
 
 @SuppressWarnings("ResultOfMethodCallIgnored")
 public final class Files {
 
+  private static final int BUFFER_SIZE = 8192;
+
   private Files() {}
 
   public static void createNewFile(@NotNull File file) throws IOException {
@@ -40,6 +57,46 @@ public final class Files {
     }
   }
 
+  public static long checksum(@NotNull File file) throws IOException {
+    Preconditions.checkNotNull(file, "File cannot be null");
+
+    CRC32 crc = new CRC32();
+    byte[] buffer = new byte[BUFFER_SIZE];
+    try (InputStream in = new FileInputStream(file)) {
+      for (int read = in.read(buffer); read != -1; read = in.read(buffer)) {
+        crc.update(buffer, 0, read);
+      }
+    }
+    return crc.getValue();
+  }
+
+  public static byte[] digest(@NotNull byte[] bytes) {
+    Preconditions.checkNotNull(bytes, "Bytes cannot be null");
+
+    return newDigest().digest(bytes);
+  }
+
+  private static MessageDigest newDigest() {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      // Every Java platform is required to support SHA-256
+      throw new IllegalStateException(e);
+    }
+  }
+
+  public static BufferedOutputStream newBufferedOutputStream(@NotNull File file, boolean sync)
+      throws FileNotFoundException {
+    return newBufferedOutputStream(file, sync, null);
+  }
+
+  public static BufferedOutputStream newBufferedOutputStream(@NotNull File file, boolean sync,
+      @Nullable Checksum checksum) throws FileNotFoundException {
+    Preconditions.checkNotNull(file, "File cannot be null");
+
+    return new BufferedOutputStream(newOutputStream(file, sync, checksum), BUFFER_SIZE);
+  }
+
   public static BufferedReader newBufferedReader(@NotNull File file) throws FileNotFoundException {
     Preconditions.checkNotNull(file, "File cannot be null");
 
@@ -49,10 +106,117 @@ public final class Files {
   }
 
   public static BufferedWriter newBufferedWriter(@NotNull File file) throws FileNotFoundException {
+    return newBufferedWriter(file, false);
+  }
+
+  public static BufferedWriter newBufferedWriter(@NotNull File file, boolean sync)
+      throws FileNotFoundException {
+    return newBufferedWriter(file, sync, null);
+  }
+
+  public static BufferedWriter newBufferedWriter(@NotNull File file, boolean sync,
+      @Nullable Checksum checksum) throws FileNotFoundException {
     Preconditions.checkNotNull(file, "File cannot be null");
 
-    OutputStream out = new FileOutputStream(file);
+    OutputStream out = newOutputStream(file, sync, checksum);
     OutputStreamWriter writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
     return new BufferedWriter(writer);
   }
+
+  // The checksum is updated with the written bytes, as checksum(File) would read them back
+  private static OutputStream newOutputStream(File file, boolean sync, Checksum checksum)
+      throws FileNotFoundException {
+    OutputStream out = sync ? new SyncFileOutputStream(file) : new FileOutputStream(file);
+    return checksum != null ? new CheckedOutputStream(out, checksum) : out;
+  }
+
+  public static File createTempSibling(@NotNull File file) throws IOException {
+    Preconditions.checkNotNull(file, "File cannot be null");
+
+    File parent = file.getCanonicalFile().getParentFile();
+    File temp = File.createTempFile("." + file.getName() + ".", ".tmp", parent);
+    try {
+      copyAccess(file.toPath(), temp.toPath());
+    } catch (IOException e) {
+      temp.delete();
+      throw e;
+    }
+    return temp;
+  }
+
+  // The sibling replaces the file, so it is given the same access before anything is written
+  private static void copyAccess(Path source, Path target) throws IOException {
+    if (!java.nio.file.Files.exists(source)) {
+      return;
+    }
+
+    PosixFileAttributeView posix = java.nio.file.Files.getFileAttributeView(source,
+        PosixFileAttributeView.class);
+    if (posix != null) {
+      PosixFileAttributes attributes = posix.readAttributes();
+      PosixFileAttributeView targetView = java.nio.file.Files.getFileAttributeView(target,
+          PosixFileAttributeView.class);
+      targetView.setPermissions(attributes.permissions());
+      try {
+        targetView.setOwner(attributes.owner());
+        targetView.setGroup(attributes.group());
+      } catch (IOException ignored) {
+        // Only privileged users can give files away, the permissions are still kept
+      }
+      return;
+    }
+
+    AclFileAttributeView acl = java.nio.file.Files.getFileAttributeView(source,
+        AclFileAttributeView.class);
+    if (acl != null) {
+      java.nio.file.Files.getFileAttributeView(target, AclFileAttributeView.class)
+          .setAcl(acl.getAcl());
+    }
+  }
+
+  public static void moveAtomically(@NotNull File source, @NotNull File target, boolean sync)
+      throws IOException {
+    Preconditions.checkNotNull(source, "Source cannot be null");
+    Preconditions.checkNotNull(target, "Target cannot be null");
+
+    Path from = source.toPath();
+    Path to = target.toPath();
+    try {
+      java.nio.file.Files.move(from, to, StandardCopyOption.ATOMIC_MOVE,
+          StandardCopyOption.REPLACE_EXISTING);
+    } catch (AtomicMoveNotSupportedException e) {
+      java.nio.file.Files.move(from, to, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    if (sync) {
+      syncDirectory(target.getCanonicalFile().getParentFile());
+    }
+  }
+
+  private static void syncDirectory(File directory) {
+    if (directory == null) {
+      return;
+    }
+    try (FileChannel channel = FileChannel.open(directory.toPath(), StandardOpenOption.READ)) {
+      channel.force(true);
+    } catch (IOException ignored) {
+      // Some platforms cannot open or sync directories, the rename is still atomic
+    }
+  }
+
+  private static final class SyncFileOutputStream extends FileOutputStream {
+
+    private SyncFileOutputStream(File file) throws FileNotFoundException {
+      super(file);
+    }
+
+    @Override
+    public void close() throws IOException {
+      try {
+        getFD().sync();
+      } finally {
+        super.close();
+      }
+    }
+  }
 }
@@ -18,6 +18,12 @@ public final class Preconditions {
     return reference;
   }
 
+  public static void checkArgument(boolean expression, String message) {
+    if (!expression) {
+      throw new IllegalArgumentException(message);
+    }
+  }
+
   public static void checkState(boolean expression) {
     if (!expression) {
       throw new IllegalStateException();
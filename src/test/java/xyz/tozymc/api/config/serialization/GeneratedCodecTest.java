@@ -0,0 +1,125 @@
+package xyz.tozymc.api.config.serialization;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+import xyz.tozymc.api.config.serialization.handler.ConfigurationSerializers;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compiles serializable classes with the annotation processor of the {@code processor} module, so
+ * this test does not compile if the processor generates invalid codecs.
+ *
+ * @author TozyMC
+ * @since 1.0
+ */
+class GeneratedCodecTest {
+
+  @Test
+  void generatesFieldCodec() throws ClassNotFoundException {
+    assertTrue(ConfigurationCodec.class.isAssignableFrom(codecClass(FieldPoint.class)));
+
+    FieldPoint point = new FieldPoint();
+    point.x = 1;
+    point.y = 2.5;
+    point.name = "point";
+    point.values = new int[]{1, 2};
+    point.tags = Collections.singletonList("tag");
+    FieldPoint copy = ConfigurationSerializers.deserialize(
+        ConfigurationSerializers.serialize(point), FieldPoint.class);
+
+    assertEquals(1, copy.x);
+    assertEquals(2.5, copy.y);
+    assertEquals("point", copy.name);
+    assertArrayEquals(new int[]{1, 2}, copy.values);
+    assertEquals(Collections.singletonList("tag"), copy.tags);
+  }
+
+  @Test
+  void generatesMethodCodec() throws ClassNotFoundException {
+    assertTrue(ConfigurationCodec.class.isAssignableFrom(codecClass(MethodPoint.class)));
+
+    MethodPoint copy = ConfigurationSerializers.deserialize(
+        ConfigurationSerializers.serialize(new MethodPoint(1)), MethodPoint.class);
+
+    assertEquals(1, copy.x);
+  }
+
+  @Test
+  void skipsMethodsReturningOtherTypes() {
+    assertThrows(ClassNotFoundException.class, () -> codecClass(WrongSerializer.class));
+    assertThrows(ClassNotFoundException.class, () -> codecClass(WrongDeserializer.class));
+  }
+
+  private static Class<?> codecClass(Class<?> type) throws ClassNotFoundException {
+    return Class.forName(type.getName() + ConfigurationCodec.SUFFIX);
+  }
+
+  @ConfigurationSerializable
+  static class FieldPoint {
+
+    @SerialKey("x")
+    int x;
+    @SerialKey("y")
+    @NotNull Double y;
+    @SerialKey("name")
+    @NotNull String name;
+    @SerialKey("values")
+    @NotNull int[] values;
+    @SerialKey("tags")
+    @NotNull List<@NotNull String> tags;
+  }
+
+  @ConfigurationSerializable(serialize = "serialize", deserialize = "deserialize")
+  static class MethodPoint {
+
+    final int x;
+
+    MethodPoint(int x) {
+      this.x = x;
+    }
+
+    static @NotNull Map<String, Object> serialize(MethodPoint point) {
+      Map<String, Object> map = new LinkedHashMap<>();
+      map.put("x", point.x);
+      return map;
+    }
+
+    static @NotNull MethodPoint deserialize(@NotNull Map<?, ?> map) {
+      return new MethodPoint((Integer) map.get("x"));
+    }
+  }
+
+  @ConfigurationSerializable(serialize = "serialize", deserialize = "deserialize")
+  static class WrongSerializer {
+
+    static List<Object> serialize(WrongSerializer object) {
+      return Arrays.asList(object, object);
+    }
+
+    static WrongSerializer deserialize(Map<?, ?> map) {
+      return new WrongSerializer();
+    }
+  }
+
+  @ConfigurationSerializable(serialize = "serialize", deserialize = "deserialize")
+  static class WrongDeserializer {
+
+    static Map<String, Object> serialize(WrongDeserializer object) {
+      return Collections.emptyMap();
+    }
+
+    static String deserialize(Map<?, ?> map) {
+      return "";
+    }
+  }
+}